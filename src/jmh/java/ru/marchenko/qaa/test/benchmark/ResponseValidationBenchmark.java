@@ -0,0 +1,255 @@
+package ru.marchenko.qaa.test.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.builder.ResponseSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.response.ValidatableResponse;
+import io.restassured.specification.ResponseSpecification;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.marchenko.qaa.test.stub.PostsRepository;
+import ru.marchenko.qaa.test.util.JsonSchemaRegistry;
+import ru.marchenko.qaa.test.util.ResponseSpecificationBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Benchmark of validation of responses by matchers and specifications
+ * which are used in {@code PostsAPIFunctionalTest}.
+ * Responses are built in memory from the stub dataset, so only validation is measured
+ * (run with "-prof gc" to see bytes allocated per operation, see "jmh" profile)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseValidationBenchmark {
+
+    /**
+     * Path to JSON schema that validates responses with one post
+     */
+    private final static String PATH_TO_SCHEMA_FOR_ONE_POST = "JSONSchemaForOnePost.json";
+
+    /**
+     * Path to JSON schema that validates responses with many posts
+     */
+    private final static String PATH_TO_SCHEMA_FOR_MANY_POSTS = "JSONSchemaForManyPosts.json";
+
+    /**
+     * Name of "id" field
+     */
+    private final static String ID_FIELD_NAME = "id";
+
+    /**
+     * Name of "userId" field
+     */
+    private final static String USER_ID_FIELD_NAME = "userId";
+
+    /**
+     * Name of "title" field
+     */
+    private final static String TITLE_FIELD_NAME = "title";
+
+    /**
+     * Id of post in single-post payload
+     */
+    private final static int VALID_ID = 1;
+
+    /**
+     * UserId of posts in many-posts payload
+     */
+    private final static int VALID_USER_ID = 1;
+
+    /**
+     * Empty JSON brackets
+     */
+    private final static String EMPTY_JSON = "{}";
+
+    /**
+     * Empty array brackets
+     */
+    private final static String EMPTY_ARRAY = "[]";
+
+    /**
+     * Valid response status
+     */
+    private final static int VALID_STATUS = 200;
+
+    /**
+     * Body with one post (like GET /posts/1)
+     */
+    private String onePostBody;
+
+    /**
+     * Body with posts of one user (like GET /posts?userId=1)
+     */
+    private String userPostsBody;
+
+    /**
+     * Body with all posts (like GET /posts)
+     */
+    private String allPostsBody;
+
+    /**
+     * Response with one post
+     */
+    private Response onePostResponse;
+
+    /**
+     * Response with posts of one user
+     */
+    private Response userPostsResponse;
+
+    /**
+     * Schema matcher for one post
+     */
+    private Matcher<String> onePostSchemaMatcher;
+
+    /**
+     * Schema matcher for many posts which parses the whole document
+     */
+    private Matcher<String> manyPostsSchemaMatcher;
+
+    /**
+     * Schema matcher for many posts which validates array item by item
+     */
+    private Matcher<String> manyPostsStreamingSchemaMatcher;
+
+    /**
+     * Specification with GPath field matchers only
+     */
+    private ResponseSpecification gpathFieldsSpecification;
+
+    /**
+     * Specification with compiled field matchers only (see {@code JsonFieldPath})
+     */
+    private ResponseSpecification fieldsSpecification;
+
+    /**
+     * Specification with field matchers and schema check (like the one for GET /posts?userId&title)
+     */
+    private ResponseSpecification userPostsSpecification;
+
+    /**
+     * Specification for one post (like the one for GET /posts/{id})
+     */
+    private ResponseSpecification onePostSpecification;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        PostsRepository postsRepository = PostsRepository.fromClasspath(objectMapper);
+
+        onePostBody = objectMapper.writeValueAsString(postsRepository.findById(String.valueOf(VALID_ID)));
+        userPostsBody = objectMapper.writeValueAsString(postsRepository.findAll(
+                Map.of(USER_ID_FIELD_NAME, List.of(String.valueOf(VALID_USER_ID)))
+        ));
+        allPostsBody = objectMapper.writeValueAsString(postsRepository.findAll(Map.of()));
+
+        onePostResponse = buildResponse(onePostBody);
+        userPostsResponse = buildResponse(userPostsBody);
+
+        onePostSchemaMatcher = JsonSchemaRegistry.matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_ONE_POST);
+        manyPostsSchemaMatcher = JsonSchemaRegistry.matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS);
+        manyPostsStreamingSchemaMatcher
+                = JsonSchemaRegistry.matchesJsonSchemaInClasspathStreaming(PATH_TO_SCHEMA_FOR_MANY_POSTS);
+
+        ResponseSpecificationBuilder responseSpecificationBuilder = new ResponseSpecificationBuilder();
+        Map<String, Matcher<?>> userPostsFieldMatchers = Map.of(
+                USER_ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_USER_ID)), nullValue()),
+                TITLE_FIELD_NAME, anyOf(everyItem(notNullValue()), nullValue())
+        );
+
+        ResponseSpecBuilder gpathFieldsSpecificationBuilder = new ResponseSpecBuilder();
+        userPostsFieldMatchers.forEach(gpathFieldsSpecificationBuilder::expectBody);
+        gpathFieldsSpecification = gpathFieldsSpecificationBuilder.expectStatusCode(VALID_STATUS).build();
+        fieldsSpecification = responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
+                userPostsFieldMatchers,
+                anything(),
+                VALID_STATUS
+        );
+        userPostsSpecification = responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
+                userPostsFieldMatchers,
+                is(anyOf(manyPostsSchemaMatcher, is(EMPTY_ARRAY))),
+                VALID_STATUS
+        );
+        onePostSpecification = responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
+                Map.of(ID_FIELD_NAME, anyOf(equalTo(VALID_ID), nullValue())),
+                anyOf(onePostSchemaMatcher, is(EMPTY_JSON)),
+                VALID_STATUS
+        );
+    }
+
+    @Benchmark
+    public boolean schemaOnePost() {
+        return onePostSchemaMatcher.matches(onePostBody);
+    }
+
+    @Benchmark
+    public boolean schemaUserPosts() {
+        return manyPostsSchemaMatcher.matches(userPostsBody);
+    }
+
+    @Benchmark
+    public boolean schemaAllPosts() {
+        return manyPostsSchemaMatcher.matches(allPostsBody);
+    }
+
+    @Benchmark
+    public boolean streamingSchemaAllPosts() {
+        return manyPostsStreamingSchemaMatcher.matches(allPostsBody);
+    }
+
+    @Benchmark
+    public ValidatableResponse gpathEveryItemUserPosts() {
+        return userPostsResponse.then().spec(gpathFieldsSpecification);
+    }
+
+    @Benchmark
+    public ValidatableResponse compiledPathEveryItemUserPosts() {
+        return userPostsResponse.then().spec(fieldsSpecification);
+    }
+
+    @Benchmark
+    public ValidatableResponse fullSpecificationUserPosts() {
+        return userPostsResponse.then().spec(userPostsSpecification);
+    }
+
+    @Benchmark
+    public ValidatableResponse fullSpecificationOnePost() {
+        return onePostResponse.then().spec(onePostSpecification);
+    }
+
+    /**
+     * Method that builds response without network call
+     *
+     * @param body body of response
+     * @return response
+     */
+    private static Response buildResponse(String body) {
+        return new ResponseBuilder()
+                .setStatusCode(VALID_STATUS)
+                .setContentType(ContentType.JSON)
+                .setBody(body)
+                .build();
+    }
+}
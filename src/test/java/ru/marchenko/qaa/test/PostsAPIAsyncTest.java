@@ -0,0 +1,69 @@
+package ru.marchenko.qaa.test;
+
+import io.restassured.response.ValidatableResponse;
+import org.junit.jupiter.api.Test;
+import ru.marchenko.qaa.test.util.AsyncTestAPIBuilder;
+import ru.marchenko.qaa.test.util.ResponseSpecificationBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.Matchers.equalTo;
+import static ru.marchenko.qaa.test.PostsSpecifications.POSTS_COUNT;
+import static ru.marchenko.qaa.test.PostsSpecifications.requestSpecificationForGetById;
+import static ru.marchenko.qaa.test.util.JsonSchemaRegistry.matchesJsonSchemaInClasspath;
+
+/**
+ * Tests that send many requests at once from one thread
+ */
+public class PostsAPIAsyncTest {
+
+    /**
+     * Path to JSON schema that validates responses with one post
+     */
+    private final static String PATH_TO_SCHEMA_FOR_ONE_POST = "JSONSchemaForOnePost.json";
+
+    /**
+     * Name of "id" field
+     */
+    private final static String ID_FIELD_NAME = "id";
+
+    /**
+     * Valid response status
+     */
+    private final static int VALID_STATUS = 200;
+
+    /**
+     * Response specification builder
+     */
+    private final static ResponseSpecificationBuilder responseSpecificationBuilder = new ResponseSpecificationBuilder();
+
+    /**
+     * Builder for asynchronous tests
+     */
+    private final static AsyncTestAPIBuilder asyncTestAPIBuilder = new AsyncTestAPIBuilder();
+
+    /**
+     * This test is for test case: get a resource by id (for every post, all requests are in flight at once)
+     */
+    @Test
+    public void testGetEveryPostById() {
+        List<CompletableFuture<ValidatableResponse>> responses = new ArrayList<>();
+
+        for (int id = 1; id <= POSTS_COUNT; id++) {
+            responses.add(asyncTestAPIBuilder.buildTestWithPathParams(
+                    requestSpecificationForGetById(),
+                    responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
+                            Map.of(ID_FIELD_NAME, equalTo(id)),
+                            matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_ONE_POST),
+                            VALID_STATUS
+                    ),
+                    Map.of(ID_FIELD_NAME, id)
+            ));
+        }
+
+        AsyncTestAPIBuilder.awaitAll(responses);
+    }
+}
@@ -1,825 +1,31 @@
 package ru.marchenko.qaa.test;
 
-import io.qameta.allure.restassured.AllureRestAssured;
-import io.restassured.RestAssured;
-import io.restassured.http.ContentType;
-import io.restassured.specification.RequestSpecification;
-import io.restassured.specification.ResponseSpecification;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import ru.marchenko.qaa.test.util.RequestSpecificationBuilder;
-import ru.marchenko.qaa.test.util.ResponseSpecificationBuilder;
+import ru.marchenko.qaa.test.util.PageIterator;
 import ru.marchenko.qaa.test.util.TestAPIBuilder;
 
 import java.util.Map;
 
-import static com.jayway.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchemaInClasspath;
-import static org.hamcrest.Matchers.*;
+import static ru.marchenko.qaa.test.PostsSpecifications.*;
 
 /**
  * @author Created by Vladislav Marchenko on 08.03.2021
  */
 public class PostsAPIFunctionalTest {
 
-    /**
-     * Path to JSON schema that validates responses with one post
-     */
-    private final static String PATH_TO_SCHEMA_FOR_ONE_POST = "JSONSchemaForOnePost.json";
-
-    /**
-     * Path to JSON schema that validates responses with many posts
-     */
-    private final static String PATH_TO_SCHEMA_FOR_MANY_POSTS = "JSONSchemaForManyPosts.json";
-
-    /**
-     * Name of "id" field
-     */
-    private final static String ID_FIELD_NAME = "id";
-
-    /**
-     * Name of "userId" field
-     */
-    private final static String USER_ID_FIELD_NAME = "userId";
-
-    /**
-     * Name of "title" field
-     */
-    private final static String TITLE_FIELD_NAME = "title";
-
-    /**
-     * Name of "body" field
-     */
-    private final static String BODY_FIELD_NAME = "body";
-
-    /**
-     * Valid id value
-     */
-    private final static int VALID_ID = 1;
-
-    /**
-     * Non-existent id value
-     */
-    private final static int NON_EXISTENT_ID = 0;
-
-    /**
-     * Invalid id value
-     */
-    private final static String INVALID_ID = "b";
-
-    /**
-     * Valid userId value
-     */
-    private final static int VALID_USER_ID = 1;
-
-    /**
-     * Non-existent userId value
-     */
-    private final static int NON_EXISTENT_USER_ID = 0;
-
-    /**
-     * Invalid userId value
-     */
-    private final static String INVALID_USER_ID = "b";
-
-    /**
-     * Valid title value
-     */
-    private final static String VALID_TITLE = "sunt aut facere repellat provident occaecati excepturi optio reprehenderit";
-
-    /**
-     * Valid body value
-     */
-    private final static String VALID_BODY = "quia et suscipit\\nsuscipit recusandae consequuntur expedita et cum" +
-            "\\nreprehenderit molestiae ut ut quas totam\\nnostrum rerum est autem sunt rem eveniet architecto";
-
-    /**
-     * Invalid title value
-     */
-    private final static int INVALID_TITLE = 1;
-
-    /**
-     * Invalid body value
-     */
-    private final static int INVALID_BODY = 1;
-
-    /**
-     * Empty JSON brackets
-     */
-    private final static String EMPTY_JSON = "{}";
-
-    /**
-     * Empty array brackets
-     */
-    private final static String EMPTY_ARRAY = "[]";
-
-    /**
-     * Valid response status
-     */
-    private final static int VALID_STATUS = 200;
-
-    /**
-     * Base URI
-     */
-    private final static String BASE_URI = "https://jsonplaceholder.typicode.com";
-
-    /**
-     * Content type
-     */
-    private final static ContentType CONTENT_TYPE = ContentType.JSON;
-
-    /**
-     * * Base path for requests that get post by id
-     */
-    private final static String BASE_PATH_POST_BY_ID = "/posts/{id}";
-
-    /**
-     * Base path for requests that get all posts
-     */
-    private final static String BASE_PATH_ALL_POSTS = "/posts";
-
-    /**
-     * Base path for requests that get posts by userId
-     */
-    private final static String BASE_PATH_POSTS_BY_USER_ID = "/posts?userId={userId}";
-
-    /**
-     * Base path for requests that get posts by title
-     */
-    private final static String BASE_PATH_POSTS_BY_TITLE = "/posts?title={title}";
-
-    /**
-     * Base path for requests that get posts by body (field)
-     */
-    private final static String BASE_PATH_POSTS_BY_BODY = "/posts?body={body}";
-
-    /**
-     * Base path for requests that get post by id and userId
-     */
-    private final static String BASE_PATH_POST_BY_ID_AND_USER_ID = "/posts?id={id}&userId={userId}";
-
-    /**
-     * Base path for requests that get post by id and title
-     */
-    private final static String BASE_PATH_POST_BY_ID_AND_TITLE = "/posts?id={id}&title={title}";
-
-    /**
-     * Base path for requests that get post by id and body
-     */
-    private final static String BASE_PATH_POST_BY_ID_AND_BODY = "/posts?id={id}&body={body}";
-
-    /**
-     * Base path for requests that get posts by userId and title
-     */
-    private final static String BASE_PATH_POSTS_BY_USER_ID_AND_TITLE = "/posts?userId={userId}&title={title}";
-
-    /**
-     * Base path for requests that get posts by userId and body
-     */
-    private final static String BASE_PATH_POSTS_BY_USER_ID_AND_BODY = "/posts?userId={userId}&body={body}";
-
-    /**
-     * Base path for requests that get posts by title and body
-     */
-    private final static String BASE_PATH_POSTS_BY_TITLE_AND_BODY = "/posts?title={title}&body={body}";
-
-    /**
-     * Base path for requests that get post by id, userId and title
-     */
-    private final static String BASE_PATH_POST_BY_ID_AND_USER_ID_AND_TITLE = "/posts?id={id}&userId={userId}&title={title}";
-
-    /**
-     * Base path for requests that get post by id, userId and body
-     */
-    private final static String BASE_PATH_POST_BY_ID_AND_USER_ID_AND_BODY = "/posts?id={id}&userId={userId}&body={body}";
-
-    /**
-     * Base path for requests that get post by id, title and body
-     */
-    private final static String BASE_PATH_POST_BY_ID_AND_TITLE_AND_BODY = "/posts?id={id}&title={title}&body={body}";
-
-    /**
-     * Base path for requests that get post by userId, title and body
-     */
-    private final static String BASE_PATH_POST_BY_USER_ID_AND_TITLE_AND_BODY = "/posts?userId={userId}&title={title}&body={body}";
-
-    /**
-     * Base path for requests that get post by all fields
-     */
-    private final static String BASE_PATH_POST_BY_ALL_FIELDS = "/posts?id={id}&userId={userId}&title={title}&body={body}";
-
-    /**
-     * Request specification builder
-     */
-    private final static RequestSpecificationBuilder requestSpecificationBuilder = new RequestSpecificationBuilder();
-
-    /**
-     * Response specification builder
-     */
-    private final static ResponseSpecificationBuilder responseSpecificationBuilder = new ResponseSpecificationBuilder();
-
-    /**
-     * Specification for requests which get posts by id
-     */
-    private final static RequestSpecification REQUEST_SPECIFICATION_FOR_GET_BY_ID
-            = requestSpecificationBuilder.build(
-            BASE_URI,
-            CONTENT_TYPE,
-            BASE_PATH_POST_BY_ID
-    );
-
-    /**
-     * Specification for requests which get all posts
-     */
-    private final static RequestSpecification REQUEST_SPECIFICATION_FOR_GET_ALL
-            = requestSpecificationBuilder.build(
-            BASE_URI,
-            CONTENT_TYPE,
-            BASE_PATH_ALL_POSTS
-    );
-
-    /**
-     * Specification for requests which get posts by userId
-     */
-    private final static RequestSpecification REQUEST_SPECIFICATION_FOR_GET_BY_USER_ID
-            = requestSpecificationBuilder.build(
-            BASE_URI,
-            CONTENT_TYPE,
-            BASE_PATH_POSTS_BY_USER_ID
-    );
-
-    /**
-     * Specification for requests which get posts by title
-     */
-    private final static RequestSpecification REQUEST_SPECIFICATION_FOR_GET_BY_TITLE
-            = requestSpecificationBuilder.build(
-            BASE_URI,
-            CONTENT_TYPE,
-            BASE_PATH_POSTS_BY_TITLE
-    );
-
-    /**
-     * Specification for requests which get posts by body (field)
-     */
-    private final static RequestSpecification REQUEST_SPECIFICATION_FOR_GET_BY_BODY
-            = requestSpecificationBuilder.build(
-            BASE_URI,
-            CONTENT_TYPE,
-            BASE_PATH_POSTS_BY_BODY
-    );
-
-    /**
-     * Specification for requests which get post by id and userId
-     */
-    private final static RequestSpecification REQUEST_SPECIFICATION_FOR_GET_BY_ID_AND_USER_ID
-            = requestSpecificationBuilder.build(
-            BASE_URI,
-            CONTENT_TYPE,
-            BASE_PATH_POST_BY_ID_AND_USER_ID
-    );
-
-    /**
-     * Specification for requests which get post by id and title
-     */
-    private final static RequestSpecification REQUEST_SPECIFICATION_FOR_GET_BY_ID_AND_TITLE
-            = requestSpecificationBuilder.build(
-            BASE_URI,
-            CONTENT_TYPE,
-            BASE_PATH_POST_BY_ID_AND_TITLE
-    );
-
-    /**
-     * Specification for requests which get post by id and body
-     */
-    private final static RequestSpecification REQUEST_SPECIFICATION_FOR_GET_BY_ID_AND_BODY
-            = requestSpecificationBuilder.build(
-            BASE_URI,
-            CONTENT_TYPE,
-            BASE_PATH_POST_BY_ID_AND_BODY
-    );
-
-    /**
-     * Specification for requests which get posts by userId and title
-     */
-    private final static RequestSpecification REQUEST_SPECIFICATION_FOR_GET_BY_USER_ID_AND_TITLE
-            = requestSpecificationBuilder.build(
-            BASE_URI,
-            CONTENT_TYPE,
-            BASE_PATH_POSTS_BY_USER_ID_AND_TITLE
-    );
-
-    /**
-     * Specification for requests which get posts by userId and body
-     */
-    private final static RequestSpecification REQUEST_SPECIFICATION_FOR_GET_BY_USER_ID_AND_BODY
-            = requestSpecificationBuilder.build(
-            BASE_URI,
-            CONTENT_TYPE,
-            BASE_PATH_POSTS_BY_USER_ID_AND_BODY
-    );
-
-    /**
-     * Specification for requests which get posts by title and body
-     */
-    private final static RequestSpecification REQUEST_SPECIFICATION_FOR_GET_BY_TITLE_AND_BODY
-            = requestSpecificationBuilder.build(
-            BASE_URI,
-            CONTENT_TYPE,
-            BASE_PATH_POSTS_BY_TITLE_AND_BODY
-    );
-
-    /**
-     * Specification for requests which get post by id, userId and title
-     */
-    private final static RequestSpecification REQUEST_SPECIFICATION_FOR_GET_BY_ID_AND_USER_ID_AND_TITLE
-            = requestSpecificationBuilder.build(
-            BASE_URI,
-            CONTENT_TYPE,
-            BASE_PATH_POST_BY_ID_AND_USER_ID_AND_TITLE
-    );
-
-    /**
-     * Specification for requests which get post by id, userId and body
-     */
-    private final static RequestSpecification REQUEST_SPECIFICATION_FOR_GET_BY_ID_AND_USER_ID_AND_BODY
-            = requestSpecificationBuilder.build(
-            BASE_URI,
-            CONTENT_TYPE,
-            BASE_PATH_POST_BY_ID_AND_USER_ID_AND_BODY
-    );
-
-    /**
-     * Specification for requests which get post by userId, title and body
-     */
-    private final static RequestSpecification REQUEST_SPECIFICATION_FOR_GET_BY_USER_ID_AND_TITLE_AND_BODY
-            = requestSpecificationBuilder.build(
-            BASE_URI,
-            CONTENT_TYPE,
-            BASE_PATH_POST_BY_USER_ID_AND_TITLE_AND_BODY
-    );
-
-    /**
-     * Specification for requests which get post by id, title and body
-     */
-    private final static RequestSpecification REQUEST_SPECIFICATION_FOR_GET_BY_ID_AND_TITLE_AND_BODY
-            = requestSpecificationBuilder.build(
-            BASE_URI,
-            CONTENT_TYPE,
-            BASE_PATH_POST_BY_ID_AND_TITLE_AND_BODY
-    );
-
-    /**
-     * Specification for requests which get post by all fields
-     */
-    private final static RequestSpecification REQUEST_SPECIFICATION_FOR_GET_BY_ALL_FIELDS
-            = requestSpecificationBuilder.build(
-            BASE_URI,
-            CONTENT_TYPE,
-            BASE_PATH_POST_BY_ALL_FIELDS
-    );
-
-    /**
-     * Specification for responses from requests which get posts by valid id
-     */
-    private final static ResponseSpecification RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_ID
-            = responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
-            Map.of(ID_FIELD_NAME, anyOf(equalTo(VALID_ID), nullValue())),
-            anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_ONE_POST), is(EMPTY_JSON)),
-            VALID_STATUS
-    );
-
-    /**
-     * Specification for responses from requests which get posts by invalid id
-     */
-    private final static ResponseSpecification RESPONSE_SPECIFICATION_FOR_GET_BY_INVALID_ID
-            = responseSpecificationBuilder.buildSpecWithBodyCheck(
-            is(EMPTY_JSON),
-            VALID_STATUS
-    );
-
-    /**
-     * Specification for responses from requests which get all posts
-     */
-    private final static ResponseSpecification RESPONSE_SPECIFICATION_FOR_GET_ALL
-            = responseSpecificationBuilder.buildSpecWithBodyCheck(
-            anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY)),
-            VALID_STATUS
-    );
-
-    /**
-     * Specification for responses from requests which get posts by valid userId
-     */
-    private final static ResponseSpecification RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_USER_ID
-            = responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
-            Map.of(USER_ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_USER_ID)), nullValue())),
-            anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY)),
-            VALID_STATUS
-    );
-
-    /**
-     * Specification for responses from requests which get posts by any invalid fields
-     */
-    private final static ResponseSpecification RESPONSE_SPECIFICATION_FOR_GET_POSTS_WHEN_ANY_FIELD_IS_INVALID
-            = responseSpecificationBuilder.buildSpecWithBodyCheck(
-            is(EMPTY_ARRAY),
-            VALID_STATUS
-    );
-
-    /**
-     * Specification for responses from requests which get posts by valid title
-     */
-    private final static ResponseSpecification RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_TITLE
-            = responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
-            Map.of(TITLE_FIELD_NAME, anyOf(everyItem(equalTo(VALID_TITLE)), nullValue())),
-            is(anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY))),
-            VALID_STATUS
-    );
-
-    /**
-     * Specification for responses from requests which get posts by valid body
-     */
-    private final static ResponseSpecification RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_BODY
-            = responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
-            Map.of(BODY_FIELD_NAME, anyOf(everyItem(equalTo(VALID_BODY)), nullValue())),
-            is(anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY))),
-            VALID_STATUS
-    );
-
-    /**
-     * Specification for responses from requests which get post by valid id and userId
-     */
-    private final static ResponseSpecification RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_ID_AND_USER_ID
-            = responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
-            Map.of(
-                    ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_ID)), nullValue()),
-                    USER_ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_USER_ID)), nullValue())
-            ),
-            is(anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY))),
-            VALID_STATUS
-    );
-
-    /**
-     * Specification for responses from requests which get post by valid id and title
-     */
-    private final static ResponseSpecification RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_ID_AND_TITLE
-            = responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
-            Map.of(
-                    ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_ID)), nullValue()),
-                    TITLE_FIELD_NAME, anyOf(everyItem(equalTo(VALID_TITLE)), nullValue())
-            ),
-            is(anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY))),
-            VALID_STATUS
-    );
-
-    /**
-     * Specification for responses from requests which get post by valid id and body
-     */
-    private final static ResponseSpecification RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_ID_AND_BODY
-            = responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
-            Map.of(
-                    ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_ID)), nullValue()),
-                    BODY_FIELD_NAME, anyOf(everyItem(equalTo(VALID_BODY)), nullValue())
-            ),
-            is(anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY))),
-            VALID_STATUS
-    );
-
-    /**
-     * Specification for responses from requests which get post by valid userId and title
-     */
-    private final static ResponseSpecification RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_USER_ID_AND_TITLE
-            = responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
-            Map.of(
-                    USER_ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_USER_ID)), nullValue()),
-                    TITLE_FIELD_NAME, anyOf(everyItem(equalTo(VALID_TITLE)), nullValue())
-            ),
-            is(anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY))),
-            VALID_STATUS
-    );
-
-    /**
-     * Specification for responses from requests which get post by valid userId and body
-     */
-    private final static ResponseSpecification RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_USER_ID_AND_BODY
-            = responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
-            Map.of(
-                    USER_ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_USER_ID)), nullValue()),
-                    BODY_FIELD_NAME, anyOf(everyItem(equalTo(VALID_BODY)), nullValue())
-            ),
-            is(anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY))),
-            VALID_STATUS
-    );
-
-    /**
-     * Specification for responses from requests which get post by valid title and body
-     */
-    private final static ResponseSpecification RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_TITLE_AND_BODY
-            = responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
-            Map.of(
-                    TITLE_FIELD_NAME, anyOf(everyItem(equalTo(VALID_TITLE)), nullValue()),
-                    BODY_FIELD_NAME, anyOf(everyItem(equalTo(VALID_BODY)), nullValue())
-            ),
-            is(anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY))),
-            VALID_STATUS
-    );
-
-    /**
-     * Specification for responses from requests which get post by valid id, userId and title
-     */
-    private final static ResponseSpecification RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_ID_AND_USER_ID_AND_TITLE
-            = responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
-            Map.of(
-                    ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_ID)), nullValue()),
-                    USER_ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_USER_ID)), nullValue()),
-                    TITLE_FIELD_NAME, anyOf(everyItem(equalTo(VALID_TITLE)), nullValue())
-            ),
-            is(anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY))),
-            VALID_STATUS
-    );
-
-    /**
-     * Specification for responses from requests which get post by valid id, userId and body
-     */
-    private final static ResponseSpecification RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_ID_AND_USER_ID_AND_BODY
-            = responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
-            Map.of(
-                    ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_ID)), nullValue()),
-                    USER_ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_USER_ID)), nullValue()),
-                    BODY_FIELD_NAME, anyOf(everyItem(equalTo(VALID_BODY)), nullValue())
-            ),
-            is(anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY))),
-            VALID_STATUS
-    );
-
-    /**
-     * Specification for responses from requests which get post by valid userId, title and body
-     */
-    private final static ResponseSpecification RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_USER_ID_AND_TITLE_AND_BODY
-            = responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
-            Map.of(
-                    USER_ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_USER_ID)), nullValue()),
-                    TITLE_FIELD_NAME, anyOf(everyItem(equalTo(VALID_TITLE)), nullValue()),
-                    BODY_FIELD_NAME, anyOf(everyItem(equalTo(VALID_BODY)), nullValue())
-            ),
-            is(anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY))),
-            VALID_STATUS
-    );
-
-    /**
-     * Specification for responses from requests which get post by valid id, title and body
-     */
-    private final static ResponseSpecification RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_ID_AND_TITLE_AND_BODY
-            = responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
-            Map.of(
-                    ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_ID)), nullValue()),
-                    TITLE_FIELD_NAME, anyOf(everyItem(equalTo(VALID_TITLE)), nullValue()),
-                    BODY_FIELD_NAME, anyOf(everyItem(equalTo(VALID_BODY)), nullValue())
-            ),
-            is(anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY))),
-            VALID_STATUS
-    );
-
-    /**
-     * Specification for responses from requests which get post by all fields
-     */
-    private final static ResponseSpecification RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_ALL_FIELDS
-            = responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
-            Map.of(
-                    ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_ID)), nullValue()),
-                    USER_ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_USER_ID)), nullValue()),
-                    TITLE_FIELD_NAME, anyOf(everyItem(equalTo(VALID_TITLE)), nullValue()),
-                    BODY_FIELD_NAME, anyOf(everyItem(equalTo(VALID_BODY)), nullValue())
-            ),
-            is(anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY))),
-            VALID_STATUS
-    );
-
-    /**
-     * Params for requests which get posts by id (valid value)
-     */
-    private final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_ID
-            = Map.of(ID_FIELD_NAME, VALID_ID);
-
-    /**
-     * Params for requests which get posts by id (non-existent value)
-     */
-    private final static Map<String, Object> PARAMS_FOR_GET_BY_NON_EXISTENT_ID
-            = Map.of(ID_FIELD_NAME, NON_EXISTENT_ID);
-
-    /**
-     * Params for requests which get posts by id (invalid value)
-     */
-    private final static Map<String, Object> PARAMS_FOR_GET_BY_INVALID_ID
-            = Map.of(ID_FIELD_NAME, INVALID_ID);
-
-    /**
-     * Params for requests which get posts by userId (valid value)
-     */
-    private final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_USER_ID
-            = Map.of(USER_ID_FIELD_NAME, VALID_USER_ID);
-
-    /**
-     * Params for requests which get posts by userId (non-existent value)
-     */
-    private final static Map<String, Object> PARAMS_FOR_GET_BY_NON_EXISTENT_USER_ID
-            = Map.of(USER_ID_FIELD_NAME, NON_EXISTENT_USER_ID);
-
-    /**
-     * Params for requests which get posts by userId (invalid value)
-     */
-    private final static Map<String, Object> PARAMS_FOR_GET_BY_INVALID_USER_ID
-            = Map.of(USER_ID_FIELD_NAME, INVALID_USER_ID);
-
-    /**
-     * Params for requests which get posts by title (valid value)
-     */
-    private final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_TITLE
-            = Map.of(TITLE_FIELD_NAME, VALID_TITLE);
-
-    /**
-     * Params for requests which get posts by title (invalid value)
-     */
-    private final static Map<String, Object> PARAMS_FOR_GET_BY_INVALID_TITLE
-            = Map.of(TITLE_FIELD_NAME, INVALID_TITLE);
-
-    /**
-     * Params for requests which get posts by body (field; valid value)
-     */
-    private final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_BODY
-            = Map.of(BODY_FIELD_NAME, VALID_BODY);
-
-    /**
-     * Params for requests which get posts by body (field; invalid value)
-     */
-    private final static Map<String, Object> PARAMS_FOR_GET_BY_INVALID_BODY
-            = Map.of(BODY_FIELD_NAME, INVALID_BODY);
-
-    /**
-     * Params for requests which get posts by valid id and userId
-     */
-    private final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_ID_AND_USER_ID
-            = Map.of(
-            ID_FIELD_NAME, VALID_ID,
-            USER_ID_FIELD_NAME, VALID_USER_ID
-    );
-
-    /**
-     * Params for requests which get posts by valid id and title
-     */
-    private final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_ID_AND_TITLE
-            = Map.of(
-            ID_FIELD_NAME, VALID_ID,
-            TITLE_FIELD_NAME, VALID_TITLE
-    );
-
-    /**
-     * Params for requests which get posts by valid id and body
-     */
-    private final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_ID_AND_BODY
-            = Map.of(
-            ID_FIELD_NAME, VALID_ID,
-            BODY_FIELD_NAME, VALID_BODY
-    );
-
-    /**
-     * Params for requests which get posts by valid userId and title
-     */
-    private final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_USER_ID_AND_TITLE
-            = Map.of(
-            USER_ID_FIELD_NAME, VALID_USER_ID,
-            TITLE_FIELD_NAME, VALID_TITLE
-    );
-
-    /**
-     * Params for requests which get posts by valid userId and body
-     */
-    private final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_USER_ID_AND_BODY
-            = Map.of(
-            USER_ID_FIELD_NAME, VALID_USER_ID,
-            BODY_FIELD_NAME, VALID_BODY
-    );
-
-    /**
-     * Params for requests which get posts by valid title and body
-     */
-    private final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_TITLE_AND_BODY
-            = Map.of(
-            TITLE_FIELD_NAME, VALID_TITLE,
-            BODY_FIELD_NAME, VALID_BODY
-    );
-
-    /**
-     * Params for requests which get posts by valid id, userId and title
-     */
-    private final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_ID_AND_USER_ID_AND_TITLE
-            = Map.of(
-            ID_FIELD_NAME, VALID_ID,
-            USER_ID_FIELD_NAME, VALID_USER_ID,
-            TITLE_FIELD_NAME, VALID_TITLE
-    );
-
-    /**
-     * Params for requests which get posts by valid id, userId and body
-     */
-    private final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_ID_AND_USER_ID_AND_BODY
-            = Map.of(
-            ID_FIELD_NAME, VALID_ID,
-            USER_ID_FIELD_NAME, VALID_USER_ID,
-            BODY_FIELD_NAME, VALID_BODY
-    );
-
-    /**
-     * Params for requests which get posts by valid userId, title and body
-     */
-    private final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_USER_ID_AND_TITLE_AND_BODY
-            = Map.of(
-            USER_ID_FIELD_NAME, VALID_USER_ID,
-            TITLE_FIELD_NAME, VALID_TITLE,
-            BODY_FIELD_NAME, VALID_BODY
-    );
-
-    /**
-     * Params for requests which get posts by valid id, title and body
-     */
-    private final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_ID_AND_TITLE_AND_BODY
-            = Map.of(
-            ID_FIELD_NAME, VALID_ID,
-            TITLE_FIELD_NAME, VALID_TITLE,
-            BODY_FIELD_NAME, VALID_BODY
-    );
-
-    /**
-     * Params for requests which get posts by valid all fields
-     */
-    private final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_ALL_FIELDS
-            = Map.of(
-            ID_FIELD_NAME, VALID_ID,
-            USER_ID_FIELD_NAME, VALID_USER_ID,
-            TITLE_FIELD_NAME, VALID_TITLE,
-            BODY_FIELD_NAME, VALID_BODY
-    );
-
-    /**
-     * Params for requests which get posts by all fields but id is invalid
-     */
-    private final static Map<String, Object> PARAMS_FOR_GET_BY_ALL_FIELDS_INVALID_ID
-            = Map.of(
-            ID_FIELD_NAME, INVALID_ID,
-            USER_ID_FIELD_NAME, VALID_USER_ID,
-            TITLE_FIELD_NAME, VALID_TITLE,
-            BODY_FIELD_NAME, VALID_BODY
-    );
-
-    /**
-     * Params for requests which get posts by all fields but userId and title is invalid
-     */
-    private final static Map<String, Object> PARAMS_FOR_GET_BY_ALL_FIELDS_INVALID_USER_ID_AND_TITLE
-            = Map.of(
-            ID_FIELD_NAME, VALID_ID,
-            USER_ID_FIELD_NAME, INVALID_USER_ID,
-            TITLE_FIELD_NAME, INVALID_TITLE,
-            BODY_FIELD_NAME, VALID_BODY
-    );
-
-    /**
-     * Params for requests which get posts by all fields but valid only id
-     */
-    private final static Map<String, Object> PARAMS_FOR_GET_BY_ALL_FIELDS_VALID_ID_ONLY
-            = Map.of(
-            ID_FIELD_NAME, VALID_ID,
-            USER_ID_FIELD_NAME, INVALID_USER_ID,
-            TITLE_FIELD_NAME, INVALID_TITLE,
-            BODY_FIELD_NAME, INVALID_BODY
-    );
-
-    /**
-     * Params for requests which get posts by all invalid fields
-     */
-    private final static Map<String, Object> PARAMS_FOR_GET_BY_ALL_INVALID_FIELDS
-            = Map.of(
-            ID_FIELD_NAME, INVALID_ID,
-            USER_ID_FIELD_NAME, INVALID_USER_ID,
-            TITLE_FIELD_NAME, INVALID_TITLE,
-            BODY_FIELD_NAME, INVALID_BODY
-    );
-
     /**
      * Builder for tests
      */
     private final TestAPIBuilder testAPIBuilder = new TestAPIBuilder();
 
-    @BeforeEach
-    public void setFilter() {
-        RestAssured.filters(new AllureRestAssured());
-    }
-
     /**
      * The next 3 tests is for test case: get a resource by id
      */
     @Test
     public void testGetPostByValidId() {
         testAPIBuilder.buildTestWithPathParams(
-                REQUEST_SPECIFICATION_FOR_GET_BY_ID,
-                RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_ID,
+                requestSpecificationForGetById(),
+                responseSpecificationForGetByValidId(),
                 PARAMS_FOR_GET_BY_VALID_ID
         );
     }
@@ -827,8 +33,8 @@ public class PostsAPIFunctionalTest {
     @Test
     public void testGetPostByNonExistentId() {
         testAPIBuilder.buildTestWithPathParams(
-                REQUEST_SPECIFICATION_FOR_GET_BY_ID,
-                RESPONSE_SPECIFICATION_FOR_GET_BY_INVALID_ID,
+                requestSpecificationForGetById(),
+                responseSpecificationForGetByInvalidId(),
                 PARAMS_FOR_GET_BY_NON_EXISTENT_ID
         );
     }
@@ -836,8 +42,8 @@ public class PostsAPIFunctionalTest {
     @Test
     public void testGetPostByInvalidId() {
         testAPIBuilder.buildTestWithPathParams(
-                REQUEST_SPECIFICATION_FOR_GET_BY_ID,
-                RESPONSE_SPECIFICATION_FOR_GET_BY_INVALID_ID,
+                requestSpecificationForGetById(),
+                responseSpecificationForGetByInvalidId(),
                 PARAMS_FOR_GET_BY_INVALID_ID
         );
     }
@@ -848,28 +54,53 @@ public class PostsAPIFunctionalTest {
     @Test
     public void testGetAllPosts() {
         testAPIBuilder.buildTestWithoutParams(
-                REQUEST_SPECIFICATION_FOR_GET_ALL,
-                RESPONSE_SPECIFICATION_FOR_GET_ALL
+                requestSpecificationForGetAll(),
+                responseSpecificationForGetAll()
         );
     }
 
     @Test
     public void testGetPostsByValidUserId() {
         testAPIBuilder.buildTestWithParams(
-                REQUEST_SPECIFICATION_FOR_GET_BY_USER_ID,
-                RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_USER_ID,
+                requestSpecificationForGetByUserId(),
+                responseSpecificationForGetByValidUserId(),
                 PARAMS_FOR_GET_BY_VALID_USER_ID
         );
     }
 
+    /**
+     * The next 2 tests is for test case: Get list of resources page by page (like /posts?_page=1&_limit=10)
+     */
+    @Test
+    public void testGetAllPostsPageByPage() {
+        testAPIBuilder.buildTestWithPages(
+                requestSpecificationForGetAll(),
+                responseSpecificationForGetAll(),
+                Map.of(),
+                PageIterator.Style.PAGE_LIMIT,
+                PAGE_SIZE_FOR_GET_ALL
+        );
+    }
+
+    @Test
+    public void testGetPostsByValidUserIdPageByPage() {
+        testAPIBuilder.buildTestWithPages(
+                requestSpecificationForGetByUserId(),
+                responseSpecificationForGetByValidUserId(),
+                PARAMS_FOR_GET_BY_VALID_USER_ID,
+                PageIterator.Style.START_END,
+                PAGE_SIZE_FOR_GET_BY_USER_ID
+        );
+    }
+
     /**
      * The next tests is for test case: Filtering by query parameters (like /posts?userId=1)
      */
     @Test
     public void testGetPostsByNonExistentUserIdWhich() {
         testAPIBuilder.buildTestWithParams(
-                REQUEST_SPECIFICATION_FOR_GET_BY_USER_ID,
-                RESPONSE_SPECIFICATION_FOR_GET_POSTS_WHEN_ANY_FIELD_IS_INVALID,
+                requestSpecificationForGetByUserId(),
+                responseSpecificationForGetPostsWhenAnyFieldIsInvalid(),
                 PARAMS_FOR_GET_BY_NON_EXISTENT_USER_ID
         );
     }
@@ -877,8 +108,8 @@ public class PostsAPIFunctionalTest {
     @Test
     public void testGetPostsByInvalidUserId() {
         testAPIBuilder.buildTestWithParams(
-                REQUEST_SPECIFICATION_FOR_GET_BY_USER_ID,
-                RESPONSE_SPECIFICATION_FOR_GET_POSTS_WHEN_ANY_FIELD_IS_INVALID,
+                requestSpecificationForGetByUserId(),
+                responseSpecificationForGetPostsWhenAnyFieldIsInvalid(),
                 PARAMS_FOR_GET_BY_INVALID_USER_ID
         );
     }
@@ -886,8 +117,8 @@ public class PostsAPIFunctionalTest {
     @Test
     public void testGetPostByValidTitle() {
         testAPIBuilder.buildTestWithParams(
-                REQUEST_SPECIFICATION_FOR_GET_BY_TITLE,
-                RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_TITLE,
+                requestSpecificationForGetByTitle(),
+                responseSpecificationForGetByValidTitle(),
                 PARAMS_FOR_GET_BY_VALID_TITLE
         );
     }
@@ -895,8 +126,8 @@ public class PostsAPIFunctionalTest {
     @Test
     public void testGetPostByInvalidTitle() {
         testAPIBuilder.buildTestWithParams(
-                REQUEST_SPECIFICATION_FOR_GET_BY_TITLE,
-                RESPONSE_SPECIFICATION_FOR_GET_POSTS_WHEN_ANY_FIELD_IS_INVALID,
+                requestSpecificationForGetByTitle(),
+                responseSpecificationForGetPostsWhenAnyFieldIsInvalid(),
                 PARAMS_FOR_GET_BY_INVALID_TITLE
         );
     }
@@ -904,8 +135,8 @@ public class PostsAPIFunctionalTest {
     @Test
     public void testGetPostByValidBody() {
         testAPIBuilder.buildTestWithParams(
-                REQUEST_SPECIFICATION_FOR_GET_BY_BODY,
-                RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_BODY,
+                requestSpecificationForGetByBody(),
+                responseSpecificationForGetByValidBody(),
                 PARAMS_FOR_GET_BY_VALID_BODY
         );
     }
@@ -913,8 +144,8 @@ public class PostsAPIFunctionalTest {
     @Test
     public void testGetPostByInvalidBody() {
         testAPIBuilder.buildTestWithParams(
-                REQUEST_SPECIFICATION_FOR_GET_BY_BODY,
-                RESPONSE_SPECIFICATION_FOR_GET_POSTS_WHEN_ANY_FIELD_IS_INVALID,
+                requestSpecificationForGetByBody(),
+                responseSpecificationForGetPostsWhenAnyFieldIsInvalid(),
                 PARAMS_FOR_GET_BY_INVALID_BODY
         );
     }
@@ -922,8 +153,8 @@ public class PostsAPIFunctionalTest {
     @Test
     public void testGetPostByValidIdAndUserId() {
         testAPIBuilder.buildTestWithParams(
-                REQUEST_SPECIFICATION_FOR_GET_BY_ID_AND_USER_ID,
-                RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_ID_AND_USER_ID,
+                requestSpecificationForGetByIdAndUserId(),
+                responseSpecificationForGetByValidIdAndUserId(),
                 PARAMS_FOR_GET_BY_VALID_ID_AND_USER_ID
         );
     }
@@ -931,8 +162,8 @@ public class PostsAPIFunctionalTest {
     @Test
     public void testGetPostByValidIdAndTitle() {
         testAPIBuilder.buildTestWithParams(
-                REQUEST_SPECIFICATION_FOR_GET_BY_ID_AND_TITLE,
-                RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_ID_AND_TITLE,
+                requestSpecificationForGetByIdAndTitle(),
+                responseSpecificationForGetByValidIdAndTitle(),
                 PARAMS_FOR_GET_BY_VALID_ID_AND_TITLE
         );
     }
@@ -940,8 +171,8 @@ public class PostsAPIFunctionalTest {
     @Test
     public void testGetPostByValidIdAndBody() {
         testAPIBuilder.buildTestWithParams(
-                REQUEST_SPECIFICATION_FOR_GET_BY_ID_AND_BODY,
-                RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_ID_AND_BODY,
+                requestSpecificationForGetByIdAndBody(),
+                responseSpecificationForGetByValidIdAndBody(),
                 PARAMS_FOR_GET_BY_VALID_ID_AND_BODY
         );
     }
@@ -949,8 +180,8 @@ public class PostsAPIFunctionalTest {
     @Test
     public void testGetPostByValidUserIdAndTitle() {
         testAPIBuilder.buildTestWithParams(
-                REQUEST_SPECIFICATION_FOR_GET_BY_USER_ID_AND_TITLE,
-                RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_USER_ID_AND_TITLE,
+                requestSpecificationForGetByUserIdAndTitle(),
+                responseSpecificationForGetByValidUserIdAndTitle(),
                 PARAMS_FOR_GET_BY_VALID_USER_ID_AND_TITLE
         );
     }
@@ -958,8 +189,8 @@ public class PostsAPIFunctionalTest {
     @Test
     public void testGetPostByValidUserIdAndBody() {
         testAPIBuilder.buildTestWithParams(
-                REQUEST_SPECIFICATION_FOR_GET_BY_USER_ID_AND_BODY,
-                RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_USER_ID_AND_BODY,
+                requestSpecificationForGetByUserIdAndBody(),
+                responseSpecificationForGetByValidUserIdAndBody(),
                 PARAMS_FOR_GET_BY_VALID_USER_ID_AND_BODY
         );
     }
@@ -967,8 +198,8 @@ public class PostsAPIFunctionalTest {
     @Test
     public void testGetPostByValidTitleAndBody() {
         testAPIBuilder.buildTestWithParams(
-                REQUEST_SPECIFICATION_FOR_GET_BY_TITLE_AND_BODY,
-                RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_TITLE_AND_BODY,
+                requestSpecificationForGetByTitleAndBody(),
+                responseSpecificationForGetByValidTitleAndBody(),
                 PARAMS_FOR_GET_BY_VALID_TITLE_AND_BODY
         );
     }
@@ -976,8 +207,8 @@ public class PostsAPIFunctionalTest {
     @Test
     public void testGetPostByValidIdAndUserIdAndTitle() {
         testAPIBuilder.buildTestWithParams(
-                REQUEST_SPECIFICATION_FOR_GET_BY_ID_AND_USER_ID_AND_TITLE,
-                RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_ID_AND_USER_ID_AND_TITLE,
+                requestSpecificationForGetByIdAndUserIdAndTitle(),
+                responseSpecificationForGetByValidIdAndUserIdAndTitle(),
                 PARAMS_FOR_GET_BY_VALID_ID_AND_USER_ID_AND_TITLE
         );
     }
@@ -985,8 +216,8 @@ public class PostsAPIFunctionalTest {
     @Test
     public void testGetPostByValidIdAndUserIdAndBody() {
         testAPIBuilder.buildTestWithParams(
-                REQUEST_SPECIFICATION_FOR_GET_BY_ID_AND_USER_ID_AND_BODY,
-                RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_ID_AND_USER_ID_AND_BODY,
+                requestSpecificationForGetByIdAndUserIdAndBody(),
+                responseSpecificationForGetByValidIdAndUserIdAndBody(),
                 PARAMS_FOR_GET_BY_VALID_ID_AND_USER_ID_AND_BODY
         );
     }
@@ -994,8 +225,8 @@ public class PostsAPIFunctionalTest {
     @Test
     public void testGetPostByValidUserIdAndTitleAndBody() {
         testAPIBuilder.buildTestWithParams(
-                REQUEST_SPECIFICATION_FOR_GET_BY_USER_ID_AND_TITLE_AND_BODY,
-                RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_USER_ID_AND_TITLE_AND_BODY,
+                requestSpecificationForGetByUserIdAndTitleAndBody(),
+                responseSpecificationForGetByValidUserIdAndTitleAndBody(),
                 PARAMS_FOR_GET_BY_VALID_USER_ID_AND_TITLE_AND_BODY
         );
     }
@@ -1003,8 +234,8 @@ public class PostsAPIFunctionalTest {
     @Test
     public void testGetPostByValidIdAndTitleAndBody() {
         testAPIBuilder.buildTestWithParams(
-                REQUEST_SPECIFICATION_FOR_GET_BY_ID_AND_TITLE_AND_BODY,
-                RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_ID_AND_TITLE_AND_BODY,
+                requestSpecificationForGetByIdAndTitleAndBody(),
+                responseSpecificationForGetByValidIdAndTitleAndBody(),
                 PARAMS_FOR_GET_BY_VALID_ID_AND_TITLE_AND_BODY
         );
     }
@@ -1012,8 +243,8 @@ public class PostsAPIFunctionalTest {
     @Test
     public void testGetPostByValidAllFields() {
         testAPIBuilder.buildTestWithParams(
-                REQUEST_SPECIFICATION_FOR_GET_BY_ALL_FIELDS,
-                RESPONSE_SPECIFICATION_FOR_GET_BY_VALID_ALL_FIELDS,
+                requestSpecificationForGetByAllFields(),
+                responseSpecificationForGetByValidAllFields(),
                 PARAMS_FOR_GET_BY_VALID_ALL_FIELDS
         );
     }
@@ -1021,8 +252,8 @@ public class PostsAPIFunctionalTest {
     @Test
     public void testGetPostByAllFieldsOneInvalidField() {
         testAPIBuilder.buildTestWithParams(
-                REQUEST_SPECIFICATION_FOR_GET_BY_ALL_FIELDS,
-                RESPONSE_SPECIFICATION_FOR_GET_POSTS_WHEN_ANY_FIELD_IS_INVALID,
+                requestSpecificationForGetByAllFields(),
+                responseSpecificationForGetPostsWhenAnyFieldIsInvalid(),
                 PARAMS_FOR_GET_BY_ALL_FIELDS_INVALID_ID
         );
     }
@@ -1030,8 +261,8 @@ public class PostsAPIFunctionalTest {
     @Test
     public void testGetPostByAllFieldsTwoInvalidFields() {
         testAPIBuilder.buildTestWithParams(
-                REQUEST_SPECIFICATION_FOR_GET_BY_ALL_FIELDS,
-                RESPONSE_SPECIFICATION_FOR_GET_POSTS_WHEN_ANY_FIELD_IS_INVALID,
+                requestSpecificationForGetByAllFields(),
+                responseSpecificationForGetPostsWhenAnyFieldIsInvalid(),
                 PARAMS_FOR_GET_BY_ALL_FIELDS_INVALID_USER_ID_AND_TITLE
         );
     }
@@ -1039,8 +270,8 @@ public class PostsAPIFunctionalTest {
     @Test
     public void testGetPostByAllFieldsThreeInvalidFields() {
         testAPIBuilder.buildTestWithParams(
-                REQUEST_SPECIFICATION_FOR_GET_BY_ALL_FIELDS,
-                RESPONSE_SPECIFICATION_FOR_GET_POSTS_WHEN_ANY_FIELD_IS_INVALID,
+                requestSpecificationForGetByAllFields(),
+                responseSpecificationForGetPostsWhenAnyFieldIsInvalid(),
                 PARAMS_FOR_GET_BY_ALL_FIELDS_VALID_ID_ONLY
         );
     }
@@ -1048,8 +279,8 @@ public class PostsAPIFunctionalTest {
     @Test
     public void testGetPostByAllInvalidFields() {
         testAPIBuilder.buildTestWithParams(
-                REQUEST_SPECIFICATION_FOR_GET_BY_ALL_FIELDS,
-                RESPONSE_SPECIFICATION_FOR_GET_POSTS_WHEN_ANY_FIELD_IS_INVALID,
+                requestSpecificationForGetByAllFields(),
+                responseSpecificationForGetPostsWhenAnyFieldIsInvalid(),
                 PARAMS_FOR_GET_BY_ALL_INVALID_FIELDS
         );
     }
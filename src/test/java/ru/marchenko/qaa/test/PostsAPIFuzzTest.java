@@ -0,0 +1,148 @@
+package ru.marchenko.qaa.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import ru.marchenko.qaa.test.stub.Post;
+import ru.marchenko.qaa.test.stub.PostsRepository;
+import ru.marchenko.qaa.test.util.FuzzGenerator;
+import ru.marchenko.qaa.test.util.FuzzRunner;
+import ru.marchenko.qaa.test.util.TestAPIBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static ru.marchenko.qaa.test.PostsSpecifications.*;
+import static ru.marchenko.qaa.test.util.FuzzGenerators.*;
+
+/**
+ * Property-based test that sends generated values and combinations of id, userId, title and body.
+ * Responses are checked by the same specifications as in {@link PostsAPIFunctionalTest}
+ * (schema, filter by params and status), failed inputs are shrunk.
+ * It is enabled by "api.fuzz.enabled" property (see "fuzz" profile), the run is reproduced by "api.fuzz.seed"
+ */
+@EnabledIfSystemProperty(named = "api.fuzz.enabled", matches = "true")
+@Execution(ExecutionMode.SAME_THREAD)
+public class PostsAPIFuzzTest {
+
+    /**
+     * Name of "id" field
+     */
+    private final static String ID_FIELD_NAME = "id";
+
+    /**
+     * Name of "userId" field
+     */
+    private final static String USER_ID_FIELD_NAME = "userId";
+
+    /**
+     * Name of "title" field
+     */
+    private final static String TITLE_FIELD_NAME = "title";
+
+    /**
+     * Name of "body" field
+     */
+    private final static String BODY_FIELD_NAME = "body";
+
+    /**
+     * Characters of generated strings (letters, digits, whitespace and punctuation)
+     */
+    private final static String ALPHABET = "ab1 0-_.,:;!?'\"()[]{}*+%&=/\\\n\t\u044f\u0451";
+
+    /**
+     * Max length of generated strings
+     */
+    private final static int MAX_STRING_LENGTH = 12;
+
+    /**
+     * Posts of the API (real titles and bodies are used as valid values)
+     */
+    private final static List<Post> POSTS = PostsRepository.fromClasspath(new ObjectMapper()).findAll(Map.of());
+
+    /**
+     * Builder for tests
+     */
+    private final TestAPIBuilder testAPIBuilder = new TestAPIBuilder();
+
+    /**
+     * Runner of properties
+     */
+    private final FuzzRunner fuzzRunner = FuzzRunner.fromSystemProperties();
+
+    /**
+     * This test is for test case: Filtering by query parameters (with generated params)
+     */
+    @Test
+    public void testGetPostsByGeneratedParams() {
+        Map<String, FuzzGenerator<Object>> valueGenerators = new LinkedHashMap<>();
+        valueGenerators.put(ID_FIELD_NAME, idValues());
+        valueGenerators.put(USER_ID_FIELD_NAME, oneOf(integers(1, 10), integers(-20, 20), strings(ALPHABET, 3)));
+        valueGenerators.put(TITLE_FIELD_NAME, oneOf(
+                elements(POSTS.stream().map(Post::getTitle).collect(Collectors.toList())),
+                strings(ALPHABET, MAX_STRING_LENGTH),
+                integers(-10, 10)
+        ));
+        valueGenerators.put(BODY_FIELD_NAME, oneOf(
+                elements(POSTS.stream().map(Post::getBody).collect(Collectors.toList())),
+                strings(ALPHABET, MAX_STRING_LENGTH),
+                integers(-10, 10)
+        ));
+
+        report(fuzzRunner.check(
+                "testGetPostsByGeneratedParams",
+                params(valueGenerators),
+                params -> testAPIBuilder.buildTestWithParams(
+                        requestSpecificationForGetAll(),
+                        responseSpecificationForGetByAnyParams(params),
+                        params
+                )
+        ));
+    }
+
+    /**
+     * This test is for test case: get a resource by id (with generated id).
+     * Empty id is not generated, because request /posts/ gets the whole collection
+     */
+    @Test
+    public void testGetPostByGeneratedId() {
+        report(fuzzRunner.check(
+                "testGetPostByGeneratedId",
+                params(Map.of(ID_FIELD_NAME, idValues()))
+                        .filter(params -> !String.valueOf(params.get(ID_FIELD_NAME)).isEmpty()),
+                params -> testAPIBuilder.buildTestWithPathParams(
+                        requestSpecificationForGetById(),
+                        responseSpecificationForGetByAnyId(params.get(ID_FIELD_NAME)),
+                        params
+                )
+        ));
+    }
+
+    /**
+     * Method that creates generator of ids (mostly existing ones, non-existent ones and strings)
+     *
+     * @return generator
+     */
+    private static FuzzGenerator<Object> idValues() {
+        return oneOf(
+                integers(1, POSTS.size()),
+                integers(Integer.MIN_VALUE / 2, Integer.MAX_VALUE / 2),
+                integers(-10, POSTS.size() + 10),
+                strings("ab1 0-_.,", 3)
+        );
+    }
+
+    /**
+     * Method that attaches summary of fuzzing to Allure report
+     *
+     * @param summary summary
+     */
+    private static void report(String summary) {
+        Allure.addAttachment("Fuzzing summary", "text/plain", summary);
+    }
+}
@@ -0,0 +1,157 @@
+package ru.marchenko.qaa.test;
+
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+import org.junit.platform.commons.support.ReflectionSupport;
+import ru.marchenko.qaa.test.util.LoadTestReport;
+import ru.marchenko.qaa.test.util.LoadTestRunner;
+import ru.marchenko.qaa.test.util.TestProperties;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+/**
+ * Throughput test that runs tests of {@link PostsAPIFunctionalTest} as scenarios
+ * (except tests of the known bug, which fail by design).
+ * Summary is attached to Allure report and is written with percentile distributions to "load.results.directory".
+ * It is enabled by "api.load.enabled" property (see "load" profile)
+ */
+@EnabledIfSystemProperty(named = "api.load.enabled", matches = "true")
+@Execution(ExecutionMode.SAME_THREAD)
+public class PostsAPILoadTest {
+
+    /**
+     * Name of property with max allowed share of failed requests
+     */
+    private final static String MAX_ERROR_RATE_PROPERTY = "api.load.max.error.rate";
+
+    /**
+     * Name of property with directory for summary and percentile distributions
+     */
+    private final static String RESULTS_DIRECTORY_PROPERTY = "load.results.directory";
+
+    /**
+     * Name of file with summary of all scenarios
+     */
+    private final static String SUMMARY_FILE_NAME = "summary.txt";
+
+    /**
+     * Extension of files with percentile distributions
+     */
+    private final static String DISTRIBUTION_FILE_EXTENSION = ".hgrm";
+
+    /**
+     * Names of functional tests of the bug from the third task (they expect status 200 for missing posts,
+     * so they fail on every call and are not scenarios of the load test)
+     */
+    private final static Set<String> KNOWN_BUG_TESTS = Set.of("testGetPostByNonExistentId", "testGetPostByInvalidId");
+
+    @Test
+    public void testThroughputOfAllSpecifications() {
+        Map<String, LoadTestReport> reports = LoadTestRunner.fromSystemProperties().run(buildScenarios());
+        LoadTestReport total = LoadTestReport.total(reports.values());
+
+        StringBuilder summary = new StringBuilder();
+
+        for (LoadTestReport report : reports.values()) {
+            summary.append(report).append(System.lineSeparator());
+        }
+
+        summary.append(total).append(System.lineSeparator());
+
+        Allure.addAttachment("Load test summary", "text/plain", summary.toString());
+        Allure.addAttachment("Load test percentile distribution", "text/plain", total.getPercentileDistribution());
+        writeResults(summary.toString(), reports, total);
+
+        assertThat(
+                "Error rate of load test",
+                total.getErrorRate(),
+                lessThanOrEqualTo(Double.parseDouble(TestProperties.getString(MAX_ERROR_RATE_PROPERTY, "0")))
+        );
+    }
+
+    /**
+     * Method that builds scenarios from tests of {@link PostsAPIFunctionalTest},
+     * so every functional test (with its request and response specifications) is a scenario of the load test.
+     * Tests of the known bug are skipped
+     *
+     * @return scenarios by names of functional tests
+     */
+    private static Map<String, Runnable> buildScenarios() {
+        PostsAPIFunctionalTest functionalTest = ReflectionSupport.newInstance(PostsAPIFunctionalTest.class);
+        Map<String, Runnable> scenarios = new LinkedHashMap<>();
+
+        for (Method method : AnnotationSupport.findAnnotatedMethods(
+                PostsAPIFunctionalTest.class,
+                Test.class,
+                HierarchyTraversalMode.TOP_DOWN
+        )) {
+            if (KNOWN_BUG_TESTS.contains(method.getName())) {
+                continue;
+            }
+
+            scenarios.put(method.getName(), () -> ReflectionSupport.invokeMethod(method, functionalTest));
+        }
+
+        return scenarios;
+    }
+
+    /**
+     * Method that writes summary and percentile distributions to results directory (if it is set)
+     *
+     * @param summary summary of all scenarios
+     * @param reports reports of scenarios
+     * @param total   report for all scenarios
+     */
+    private static void writeResults(String summary, Map<String, LoadTestReport> reports, LoadTestReport total) {
+        String resultsDirectory = TestProperties.getString(RESULTS_DIRECTORY_PROPERTY, null);
+
+        if (resultsDirectory == null) {
+            return;
+        }
+
+        try {
+            Path directory = Files.createDirectories(Paths.get(resultsDirectory));
+            Files.writeString(directory.resolve(SUMMARY_FILE_NAME), summary, StandardCharsets.UTF_8);
+
+            for (LoadTestReport report : reports.values()) {
+                writeDistribution(directory, report);
+            }
+
+            writeDistribution(directory, total);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't write load test results to " + resultsDirectory, e);
+        }
+    }
+
+    /**
+     * Method that writes percentile distribution of one report
+     *
+     * @param directory results directory
+     * @param report    report
+     * @throws IOException if file can't be written
+     */
+    private static void writeDistribution(Path directory, LoadTestReport report) throws IOException {
+        Files.writeString(
+                directory.resolve(report.getName() + DISTRIBUTION_FILE_EXTENSION),
+                report.getPercentileDistribution(),
+                StandardCharsets.UTF_8
+        );
+    }
+}
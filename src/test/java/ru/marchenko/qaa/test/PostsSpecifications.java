@@ -0,0 +1,1037 @@
+package ru.marchenko.qaa.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.ResponseSpecification;
+import org.hamcrest.Matcher;
+import ru.marchenko.qaa.test.stub.PostsRepository;
+import ru.marchenko.qaa.test.stub.PostsStubServer;
+import ru.marchenko.qaa.test.util.LatencyBudget;
+import ru.marchenko.qaa.test.util.RequestSpecificationBuilder;
+import ru.marchenko.qaa.test.util.ResponseSpecificationBuilder;
+import ru.marchenko.qaa.test.util.SpecificationRegistry;
+import ru.marchenko.qaa.test.util.TestProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.*;
+import static ru.marchenko.qaa.test.util.JsonSchemaRegistry.matchesJsonSchemaInClasspath;
+import static ru.marchenko.qaa.test.util.JsonSchemaRegistry.matchesJsonSchemaInClasspathStreaming;
+
+/**
+ * Request and response specifications for tests of posts API and params for requests.
+ * Specifications (with their schema matchers) are built when they are used for the first time
+ * and are cached in {@link SpecificationRegistry}, so a run of one test doesn't build specifications of other tests
+ */
+final class PostsSpecifications {
+
+    /**
+     * Path to JSON schema that validates responses with one post
+     */
+    private final static String PATH_TO_SCHEMA_FOR_ONE_POST = "JSONSchemaForOnePost.json";
+
+    /**
+     * Path to JSON schema that validates responses with many posts
+     */
+    private final static String PATH_TO_SCHEMA_FOR_MANY_POSTS = "JSONSchemaForManyPosts.json";
+
+    /**
+     * Name of "id" field
+     */
+    private final static String ID_FIELD_NAME = "id";
+
+    /**
+     * Name of "userId" field
+     */
+    private final static String USER_ID_FIELD_NAME = "userId";
+
+    /**
+     * Name of "title" field
+     */
+    private final static String TITLE_FIELD_NAME = "title";
+
+    /**
+     * Name of "body" field
+     */
+    private final static String BODY_FIELD_NAME = "body";
+
+    /**
+     * Valid id value
+     */
+    private final static int VALID_ID = 1;
+
+    /**
+     * Non-existent id value
+     */
+    private final static int NON_EXISTENT_ID = 0;
+
+    /**
+     * Invalid id value
+     */
+    private final static String INVALID_ID = "b";
+
+    /**
+     * Valid userId value
+     */
+    private final static int VALID_USER_ID = 1;
+
+    /**
+     * Non-existent userId value
+     */
+    private final static int NON_EXISTENT_USER_ID = 0;
+
+    /**
+     * Invalid userId value
+     */
+    private final static String INVALID_USER_ID = "b";
+
+    /**
+     * Valid title value
+     */
+    private final static String VALID_TITLE = "sunt aut facere repellat provident occaecati excepturi optio reprehenderit";
+
+    /**
+     * Valid body value
+     */
+    private final static String VALID_BODY = "quia et suscipit\\nsuscipit recusandae consequuntur expedita et cum" +
+            "\\nreprehenderit molestiae ut ut quas totam\\nnostrum rerum est autem sunt rem eveniet architecto";
+
+    /**
+     * Invalid title value
+     */
+    private final static int INVALID_TITLE = 1;
+
+    /**
+     * Invalid body value
+     */
+    private final static int INVALID_BODY = 1;
+
+    /**
+     * Empty JSON brackets
+     */
+    private final static String EMPTY_JSON = "{}";
+
+    /**
+     * Empty array brackets
+     */
+    private final static String EMPTY_ARRAY = "[]";
+
+    /**
+     * Valid response status
+     */
+    private final static int VALID_STATUS = 200;
+
+    /**
+     * Response status of missing post
+     */
+    private final static int NOT_FOUND_STATUS = 404;
+
+    /**
+     * Base URI
+     */
+    private final static String BASE_URI = "https://jsonplaceholder.typicode.com";
+
+    /**
+     * Content type
+     */
+    private final static ContentType CONTENT_TYPE = ContentType.JSON;
+
+    /**
+     * * Base path for requests that get post by id
+     */
+    private final static String BASE_PATH_POST_BY_ID = "/posts/{id}";
+
+    /**
+     * Base path for requests that get all posts
+     */
+    private final static String BASE_PATH_ALL_POSTS = "/posts";
+
+    /**
+     * Base path for requests that get posts by userId
+     */
+    private final static String BASE_PATH_POSTS_BY_USER_ID = "/posts?userId={userId}";
+
+    /**
+     * Base path for requests that get posts by title
+     */
+    private final static String BASE_PATH_POSTS_BY_TITLE = "/posts?title={title}";
+
+    /**
+     * Base path for requests that get posts by body (field)
+     */
+    private final static String BASE_PATH_POSTS_BY_BODY = "/posts?body={body}";
+
+    /**
+     * Base path for requests that get post by id and userId
+     */
+    private final static String BASE_PATH_POST_BY_ID_AND_USER_ID = "/posts?id={id}&userId={userId}";
+
+    /**
+     * Base path for requests that get post by id and title
+     */
+    private final static String BASE_PATH_POST_BY_ID_AND_TITLE = "/posts?id={id}&title={title}";
+
+    /**
+     * Base path for requests that get post by id and body
+     */
+    private final static String BASE_PATH_POST_BY_ID_AND_BODY = "/posts?id={id}&body={body}";
+
+    /**
+     * Base path for requests that get posts by userId and title
+     */
+    private final static String BASE_PATH_POSTS_BY_USER_ID_AND_TITLE = "/posts?userId={userId}&title={title}";
+
+    /**
+     * Base path for requests that get posts by userId and body
+     */
+    private final static String BASE_PATH_POSTS_BY_USER_ID_AND_BODY = "/posts?userId={userId}&body={body}";
+
+    /**
+     * Base path for requests that get posts by title and body
+     */
+    private final static String BASE_PATH_POSTS_BY_TITLE_AND_BODY = "/posts?title={title}&body={body}";
+
+    /**
+     * Base path for requests that get post by id, userId and title
+     */
+    private final static String BASE_PATH_POST_BY_ID_AND_USER_ID_AND_TITLE = "/posts?id={id}&userId={userId}&title={title}";
+
+    /**
+     * Base path for requests that get post by id, userId and body
+     */
+    private final static String BASE_PATH_POST_BY_ID_AND_USER_ID_AND_BODY = "/posts?id={id}&userId={userId}&body={body}";
+
+    /**
+     * Base path for requests that get post by id, title and body
+     */
+    private final static String BASE_PATH_POST_BY_ID_AND_TITLE_AND_BODY = "/posts?id={id}&title={title}&body={body}";
+
+    /**
+     * Base path for requests that get post by userId, title and body
+     */
+    private final static String BASE_PATH_POST_BY_USER_ID_AND_TITLE_AND_BODY = "/posts?userId={userId}&title={title}&body={body}";
+
+    /**
+     * Base path for requests that get post by all fields
+     */
+    private final static String BASE_PATH_POST_BY_ALL_FIELDS = "/posts?id={id}&userId={userId}&title={title}&body={body}";
+
+    /**
+     * Latency budget of requests which get post by id
+     * (max time of request, p50, p95 and p99 of times in milliseconds)
+     */
+    private final static LatencyBudget LATENCY_BUDGET_FOR_GET_BY_ID = LatencyBudget.fromSystemProperties(
+            "GET " + BASE_PATH_POST_BY_ID,
+            "posts.by.id",
+            10000,
+            200,
+            430,
+            1000
+    );
+
+    /**
+     * Latency budget of requests which get all posts
+     * (max time of request, p50, p95 and p99 of times in milliseconds)
+     */
+    private final static LatencyBudget LATENCY_BUDGET_FOR_GET_ALL = LatencyBudget.fromSystemProperties(
+            "GET " + BASE_PATH_ALL_POSTS,
+            "posts.all",
+            10000,
+            500,
+            1000,
+            2000
+    );
+
+    /**
+     * Latency budget of requests which get posts filtered by query params
+     * (max time of request, p50, p95 and p99 of times in milliseconds)
+     */
+    private final static LatencyBudget LATENCY_BUDGET_FOR_GET_FILTERED = LatencyBudget.fromSystemProperties(
+            "GET " + BASE_PATH_ALL_POSTS + "?{filter}",
+            "posts.filtered",
+            10000,
+            250,
+            500,
+            1000
+    );
+
+    /**
+     * Request specification builder
+     */
+    private final static RequestSpecificationBuilder requestSpecificationBuilder = new RequestSpecificationBuilder();
+
+    /**
+     * Response specification builder
+     */
+    private final static ResponseSpecificationBuilder responseSpecificationBuilder = new ResponseSpecificationBuilder();
+
+    /**
+     * Request specifications by base path
+     */
+    private final static SpecificationRegistry<RequestSpecification> REQUEST_SPECIFICATIONS
+            = new SpecificationRegistry<>();
+
+    /**
+     * Response specifications by name
+     */
+    private final static SpecificationRegistry<ResponseSpecification> RESPONSE_SPECIFICATIONS
+            = new SpecificationRegistry<>();
+
+    /**
+     * Params for requests which get posts by id (valid value)
+     */
+    final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_ID
+            = Map.of(ID_FIELD_NAME, VALID_ID);
+
+    /**
+     * Params for requests which get posts by id (non-existent value)
+     */
+    final static Map<String, Object> PARAMS_FOR_GET_BY_NON_EXISTENT_ID
+            = Map.of(ID_FIELD_NAME, NON_EXISTENT_ID);
+
+    /**
+     * Params for requests which get posts by id (invalid value)
+     */
+    final static Map<String, Object> PARAMS_FOR_GET_BY_INVALID_ID
+            = Map.of(ID_FIELD_NAME, INVALID_ID);
+
+    /**
+     * Count of posts in the API: posts generated by the stub ("api.stub.synthetic.posts")
+     * or posts of posts.json (the same as posts of jsonplaceholder)
+     */
+    final static int POSTS_COUNT = countPosts();
+
+    /**
+     * Count of posts per page for requests which get all posts page by page
+     * (larger pages are set by "api.posts.page.size" property for large synthetic datasets)
+     */
+    final static int PAGE_SIZE_FOR_GET_ALL = TestProperties.getInt("api.posts.page.size", 10);
+
+    /**
+     * Count of posts per page for requests which get posts by userId page by page
+     * (it doesn't divide count of posts of the user, so the last page is not full)
+     */
+    final static int PAGE_SIZE_FOR_GET_BY_USER_ID = 3;
+
+    /**
+     * Params for requests which get posts by userId (valid value)
+     */
+    final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_USER_ID
+            = Map.of(USER_ID_FIELD_NAME, VALID_USER_ID);
+
+    /**
+     * Params for requests which get posts by userId (non-existent value)
+     */
+    final static Map<String, Object> PARAMS_FOR_GET_BY_NON_EXISTENT_USER_ID
+            = Map.of(USER_ID_FIELD_NAME, NON_EXISTENT_USER_ID);
+
+    /**
+     * Params for requests which get posts by userId (invalid value)
+     */
+    final static Map<String, Object> PARAMS_FOR_GET_BY_INVALID_USER_ID
+            = Map.of(USER_ID_FIELD_NAME, INVALID_USER_ID);
+
+    /**
+     * Params for requests which get posts by title (valid value)
+     */
+    final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_TITLE
+            = Map.of(TITLE_FIELD_NAME, VALID_TITLE);
+
+    /**
+     * Params for requests which get posts by title (invalid value)
+     */
+    final static Map<String, Object> PARAMS_FOR_GET_BY_INVALID_TITLE
+            = Map.of(TITLE_FIELD_NAME, INVALID_TITLE);
+
+    /**
+     * Params for requests which get posts by body (field; valid value)
+     */
+    final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_BODY
+            = Map.of(BODY_FIELD_NAME, VALID_BODY);
+
+    /**
+     * Params for requests which get posts by body (field; invalid value)
+     */
+    final static Map<String, Object> PARAMS_FOR_GET_BY_INVALID_BODY
+            = Map.of(BODY_FIELD_NAME, INVALID_BODY);
+
+    /**
+     * Params for requests which get posts by valid id and userId
+     */
+    final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_ID_AND_USER_ID
+            = Map.of(
+            ID_FIELD_NAME, VALID_ID,
+            USER_ID_FIELD_NAME, VALID_USER_ID
+    );
+
+    /**
+     * Params for requests which get posts by valid id and title
+     */
+    final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_ID_AND_TITLE
+            = Map.of(
+            ID_FIELD_NAME, VALID_ID,
+            TITLE_FIELD_NAME, VALID_TITLE
+    );
+
+    /**
+     * Params for requests which get posts by valid id and body
+     */
+    final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_ID_AND_BODY
+            = Map.of(
+            ID_FIELD_NAME, VALID_ID,
+            BODY_FIELD_NAME, VALID_BODY
+    );
+
+    /**
+     * Params for requests which get posts by valid userId and title
+     */
+    final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_USER_ID_AND_TITLE
+            = Map.of(
+            USER_ID_FIELD_NAME, VALID_USER_ID,
+            TITLE_FIELD_NAME, VALID_TITLE
+    );
+
+    /**
+     * Params for requests which get posts by valid userId and body
+     */
+    final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_USER_ID_AND_BODY
+            = Map.of(
+            USER_ID_FIELD_NAME, VALID_USER_ID,
+            BODY_FIELD_NAME, VALID_BODY
+    );
+
+    /**
+     * Params for requests which get posts by valid title and body
+     */
+    final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_TITLE_AND_BODY
+            = Map.of(
+            TITLE_FIELD_NAME, VALID_TITLE,
+            BODY_FIELD_NAME, VALID_BODY
+    );
+
+    /**
+     * Params for requests which get posts by valid id, userId and title
+     */
+    final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_ID_AND_USER_ID_AND_TITLE
+            = Map.of(
+            ID_FIELD_NAME, VALID_ID,
+            USER_ID_FIELD_NAME, VALID_USER_ID,
+            TITLE_FIELD_NAME, VALID_TITLE
+    );
+
+    /**
+     * Params for requests which get posts by valid id, userId and body
+     */
+    final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_ID_AND_USER_ID_AND_BODY
+            = Map.of(
+            ID_FIELD_NAME, VALID_ID,
+            USER_ID_FIELD_NAME, VALID_USER_ID,
+            BODY_FIELD_NAME, VALID_BODY
+    );
+
+    /**
+     * Params for requests which get posts by valid userId, title and body
+     */
+    final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_USER_ID_AND_TITLE_AND_BODY
+            = Map.of(
+            USER_ID_FIELD_NAME, VALID_USER_ID,
+            TITLE_FIELD_NAME, VALID_TITLE,
+            BODY_FIELD_NAME, VALID_BODY
+    );
+
+    /**
+     * Params for requests which get posts by valid id, title and body
+     */
+    final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_ID_AND_TITLE_AND_BODY
+            = Map.of(
+            ID_FIELD_NAME, VALID_ID,
+            TITLE_FIELD_NAME, VALID_TITLE,
+            BODY_FIELD_NAME, VALID_BODY
+    );
+
+    /**
+     * Params for requests which get posts by valid all fields
+     */
+    final static Map<String, Object> PARAMS_FOR_GET_BY_VALID_ALL_FIELDS
+            = Map.of(
+            ID_FIELD_NAME, VALID_ID,
+            USER_ID_FIELD_NAME, VALID_USER_ID,
+            TITLE_FIELD_NAME, VALID_TITLE,
+            BODY_FIELD_NAME, VALID_BODY
+    );
+
+    /**
+     * Params for requests which get posts by all fields but id is invalid
+     */
+    final static Map<String, Object> PARAMS_FOR_GET_BY_ALL_FIELDS_INVALID_ID
+            = Map.of(
+            ID_FIELD_NAME, INVALID_ID,
+            USER_ID_FIELD_NAME, VALID_USER_ID,
+            TITLE_FIELD_NAME, VALID_TITLE,
+            BODY_FIELD_NAME, VALID_BODY
+    );
+
+    /**
+     * Params for requests which get posts by all fields but userId and title is invalid
+     */
+    final static Map<String, Object> PARAMS_FOR_GET_BY_ALL_FIELDS_INVALID_USER_ID_AND_TITLE
+            = Map.of(
+            ID_FIELD_NAME, VALID_ID,
+            USER_ID_FIELD_NAME, INVALID_USER_ID,
+            TITLE_FIELD_NAME, INVALID_TITLE,
+            BODY_FIELD_NAME, VALID_BODY
+    );
+
+    /**
+     * Params for requests which get posts by all fields but valid only id
+     */
+    final static Map<String, Object> PARAMS_FOR_GET_BY_ALL_FIELDS_VALID_ID_ONLY
+            = Map.of(
+            ID_FIELD_NAME, VALID_ID,
+            USER_ID_FIELD_NAME, INVALID_USER_ID,
+            TITLE_FIELD_NAME, INVALID_TITLE,
+            BODY_FIELD_NAME, INVALID_BODY
+    );
+
+    /**
+     * Params for requests which get posts by all invalid fields
+     */
+    final static Map<String, Object> PARAMS_FOR_GET_BY_ALL_INVALID_FIELDS
+            = Map.of(
+            ID_FIELD_NAME, INVALID_ID,
+            USER_ID_FIELD_NAME, INVALID_USER_ID,
+            TITLE_FIELD_NAME, INVALID_TITLE,
+            BODY_FIELD_NAME, INVALID_BODY
+    );
+
+    private PostsSpecifications() {
+    }
+
+    /**
+     * Method that returns specification for requests which get posts by id
+     *
+     * @return request specification
+     */
+    static RequestSpecification requestSpecificationForGetById() {
+        return requestSpecification(BASE_PATH_POST_BY_ID);
+    }
+
+    /**
+     * Method that returns specification for requests which get all posts
+     *
+     * @return request specification
+     */
+    static RequestSpecification requestSpecificationForGetAll() {
+        return requestSpecification(BASE_PATH_ALL_POSTS);
+    }
+
+    /**
+     * Method that returns specification for requests which get posts by userId
+     *
+     * @return request specification
+     */
+    static RequestSpecification requestSpecificationForGetByUserId() {
+        return requestSpecification(BASE_PATH_POSTS_BY_USER_ID);
+    }
+
+    /**
+     * Method that returns specification for requests which get posts by title
+     *
+     * @return request specification
+     */
+    static RequestSpecification requestSpecificationForGetByTitle() {
+        return requestSpecification(BASE_PATH_POSTS_BY_TITLE);
+    }
+
+    /**
+     * Method that returns specification for requests which get posts by body (field)
+     *
+     * @return request specification
+     */
+    static RequestSpecification requestSpecificationForGetByBody() {
+        return requestSpecification(BASE_PATH_POSTS_BY_BODY);
+    }
+
+    /**
+     * Method that returns specification for requests which get post by id and userId
+     *
+     * @return request specification
+     */
+    static RequestSpecification requestSpecificationForGetByIdAndUserId() {
+        return requestSpecification(BASE_PATH_POST_BY_ID_AND_USER_ID);
+    }
+
+    /**
+     * Method that returns specification for requests which get post by id and title
+     *
+     * @return request specification
+     */
+    static RequestSpecification requestSpecificationForGetByIdAndTitle() {
+        return requestSpecification(BASE_PATH_POST_BY_ID_AND_TITLE);
+    }
+
+    /**
+     * Method that returns specification for requests which get post by id and body
+     *
+     * @return request specification
+     */
+    static RequestSpecification requestSpecificationForGetByIdAndBody() {
+        return requestSpecification(BASE_PATH_POST_BY_ID_AND_BODY);
+    }
+
+    /**
+     * Method that returns specification for requests which get posts by userId and title
+     *
+     * @return request specification
+     */
+    static RequestSpecification requestSpecificationForGetByUserIdAndTitle() {
+        return requestSpecification(BASE_PATH_POSTS_BY_USER_ID_AND_TITLE);
+    }
+
+    /**
+     * Method that returns specification for requests which get posts by userId and body
+     *
+     * @return request specification
+     */
+    static RequestSpecification requestSpecificationForGetByUserIdAndBody() {
+        return requestSpecification(BASE_PATH_POSTS_BY_USER_ID_AND_BODY);
+    }
+
+    /**
+     * Method that returns specification for requests which get posts by title and body
+     *
+     * @return request specification
+     */
+    static RequestSpecification requestSpecificationForGetByTitleAndBody() {
+        return requestSpecification(BASE_PATH_POSTS_BY_TITLE_AND_BODY);
+    }
+
+    /**
+     * Method that returns specification for requests which get post by id, userId and title
+     *
+     * @return request specification
+     */
+    static RequestSpecification requestSpecificationForGetByIdAndUserIdAndTitle() {
+        return requestSpecification(BASE_PATH_POST_BY_ID_AND_USER_ID_AND_TITLE);
+    }
+
+    /**
+     * Method that returns specification for requests which get post by id, userId and body
+     *
+     * @return request specification
+     */
+    static RequestSpecification requestSpecificationForGetByIdAndUserIdAndBody() {
+        return requestSpecification(BASE_PATH_POST_BY_ID_AND_USER_ID_AND_BODY);
+    }
+
+    /**
+     * Method that returns specification for requests which get post by userId, title and body
+     *
+     * @return request specification
+     */
+    static RequestSpecification requestSpecificationForGetByUserIdAndTitleAndBody() {
+        return requestSpecification(BASE_PATH_POST_BY_USER_ID_AND_TITLE_AND_BODY);
+    }
+
+    /**
+     * Method that returns specification for requests which get post by id, title and body
+     *
+     * @return request specification
+     */
+    static RequestSpecification requestSpecificationForGetByIdAndTitleAndBody() {
+        return requestSpecification(BASE_PATH_POST_BY_ID_AND_TITLE_AND_BODY);
+    }
+
+    /**
+     * Method that returns specification for requests which get post by all fields
+     *
+     * @return request specification
+     */
+    static RequestSpecification requestSpecificationForGetByAllFields() {
+        return requestSpecification(BASE_PATH_POST_BY_ALL_FIELDS);
+    }
+
+    /**
+     * Method that returns specification for responses from requests which get posts by valid id
+     *
+     * @return response specification
+     */
+    static ResponseSpecification responseSpecificationForGetByValidId() {
+        return RESPONSE_SPECIFICATIONS.get("getByValidId", () -> responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
+                Map.of(ID_FIELD_NAME, anyOf(equalTo(VALID_ID), nullValue())),
+                anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_ONE_POST), is(EMPTY_JSON)),
+                VALID_STATUS,
+                LATENCY_BUDGET_FOR_GET_BY_ID
+        ));
+    }
+
+    /**
+     * Method that returns specification for responses from requests which get posts by invalid id
+     *
+     * @return response specification
+     */
+    static ResponseSpecification responseSpecificationForGetByInvalidId() {
+        return RESPONSE_SPECIFICATIONS.get("getByInvalidId", () -> responseSpecificationBuilder.buildSpecWithBodyCheck(
+                is(EMPTY_JSON),
+                VALID_STATUS,
+                LATENCY_BUDGET_FOR_GET_BY_ID
+        ));
+    }
+
+    /**
+     * Method that returns specification for responses from requests which get all posts
+     *
+     * @return response specification
+     */
+    static ResponseSpecification responseSpecificationForGetAll() {
+        return RESPONSE_SPECIFICATIONS.get("getAll", () -> responseSpecificationBuilder.buildSpecWithBodyCheck(
+                anyOf(matchesJsonSchemaInClasspathStreaming(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY)),
+                VALID_STATUS,
+                LATENCY_BUDGET_FOR_GET_ALL
+        ));
+    }
+
+    /**
+     * Method that returns specification for responses from requests which get posts by valid userId
+     *
+     * @return response specification
+     */
+    static ResponseSpecification responseSpecificationForGetByValidUserId() {
+        return RESPONSE_SPECIFICATIONS.get("getByValidUserId", () -> responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
+                Map.of(USER_ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_USER_ID)), nullValue())),
+                anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY)),
+                VALID_STATUS,
+                LATENCY_BUDGET_FOR_GET_FILTERED
+        ));
+    }
+
+    /**
+     * Method that returns specification for responses from requests which get posts by any invalid fields
+     *
+     * @return response specification
+     */
+    static ResponseSpecification responseSpecificationForGetPostsWhenAnyFieldIsInvalid() {
+        return RESPONSE_SPECIFICATIONS.get("getPostsWhenAnyFieldIsInvalid", () -> responseSpecificationBuilder.buildSpecWithBodyCheck(
+                is(EMPTY_ARRAY),
+                VALID_STATUS,
+                LATENCY_BUDGET_FOR_GET_FILTERED
+        ));
+    }
+
+    /**
+     * Method that returns specification for responses from requests which get posts by valid title
+     *
+     * @return response specification
+     */
+    static ResponseSpecification responseSpecificationForGetByValidTitle() {
+        return RESPONSE_SPECIFICATIONS.get("getByValidTitle", () -> responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
+                Map.of(TITLE_FIELD_NAME, anyOf(everyItem(equalTo(VALID_TITLE)), nullValue())),
+                is(anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY))),
+                VALID_STATUS,
+                LATENCY_BUDGET_FOR_GET_FILTERED
+        ));
+    }
+
+    /**
+     * Method that returns specification for responses from requests which get posts by valid body
+     *
+     * @return response specification
+     */
+    static ResponseSpecification responseSpecificationForGetByValidBody() {
+        return RESPONSE_SPECIFICATIONS.get("getByValidBody", () -> responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
+                Map.of(BODY_FIELD_NAME, anyOf(everyItem(equalTo(VALID_BODY)), nullValue())),
+                is(anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY))),
+                VALID_STATUS,
+                LATENCY_BUDGET_FOR_GET_FILTERED
+        ));
+    }
+
+    /**
+     * Method that returns specification for responses from requests which get post by valid id and userId
+     *
+     * @return response specification
+     */
+    static ResponseSpecification responseSpecificationForGetByValidIdAndUserId() {
+        return RESPONSE_SPECIFICATIONS.get("getByValidIdAndUserId", () -> responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
+                Map.of(
+                        ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_ID)), nullValue()),
+                        USER_ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_USER_ID)), nullValue())
+                ),
+                is(anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY))),
+                VALID_STATUS,
+                LATENCY_BUDGET_FOR_GET_FILTERED
+        ));
+    }
+
+    /**
+     * Method that returns specification for responses from requests which get post by valid id and title
+     *
+     * @return response specification
+     */
+    static ResponseSpecification responseSpecificationForGetByValidIdAndTitle() {
+        return RESPONSE_SPECIFICATIONS.get("getByValidIdAndTitle", () -> responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
+                Map.of(
+                        ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_ID)), nullValue()),
+                        TITLE_FIELD_NAME, anyOf(everyItem(equalTo(VALID_TITLE)), nullValue())
+                ),
+                is(anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY))),
+                VALID_STATUS,
+                LATENCY_BUDGET_FOR_GET_FILTERED
+        ));
+    }
+
+    /**
+     * Method that returns specification for responses from requests which get post by valid id and body
+     *
+     * @return response specification
+     */
+    static ResponseSpecification responseSpecificationForGetByValidIdAndBody() {
+        return RESPONSE_SPECIFICATIONS.get("getByValidIdAndBody", () -> responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
+                Map.of(
+                        ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_ID)), nullValue()),
+                        BODY_FIELD_NAME, anyOf(everyItem(equalTo(VALID_BODY)), nullValue())
+                ),
+                is(anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY))),
+                VALID_STATUS,
+                LATENCY_BUDGET_FOR_GET_FILTERED
+        ));
+    }
+
+    /**
+     * Method that returns specification for responses from requests which get post by valid userId and title
+     *
+     * @return response specification
+     */
+    static ResponseSpecification responseSpecificationForGetByValidUserIdAndTitle() {
+        return RESPONSE_SPECIFICATIONS.get("getByValidUserIdAndTitle", () -> responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
+                Map.of(
+                        USER_ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_USER_ID)), nullValue()),
+                        TITLE_FIELD_NAME, anyOf(everyItem(equalTo(VALID_TITLE)), nullValue())
+                ),
+                is(anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY))),
+                VALID_STATUS,
+                LATENCY_BUDGET_FOR_GET_FILTERED
+        ));
+    }
+
+    /**
+     * Method that returns specification for responses from requests which get post by valid userId and body
+     *
+     * @return response specification
+     */
+    static ResponseSpecification responseSpecificationForGetByValidUserIdAndBody() {
+        return RESPONSE_SPECIFICATIONS.get("getByValidUserIdAndBody", () -> responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
+                Map.of(
+                        USER_ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_USER_ID)), nullValue()),
+                        BODY_FIELD_NAME, anyOf(everyItem(equalTo(VALID_BODY)), nullValue())
+                ),
+                is(anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY))),
+                VALID_STATUS,
+                LATENCY_BUDGET_FOR_GET_FILTERED
+        ));
+    }
+
+    /**
+     * Method that returns specification for responses from requests which get post by valid title and body
+     *
+     * @return response specification
+     */
+    static ResponseSpecification responseSpecificationForGetByValidTitleAndBody() {
+        return RESPONSE_SPECIFICATIONS.get("getByValidTitleAndBody", () -> responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
+                Map.of(
+                        TITLE_FIELD_NAME, anyOf(everyItem(equalTo(VALID_TITLE)), nullValue()),
+                        BODY_FIELD_NAME, anyOf(everyItem(equalTo(VALID_BODY)), nullValue())
+                ),
+                is(anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY))),
+                VALID_STATUS,
+                LATENCY_BUDGET_FOR_GET_FILTERED
+        ));
+    }
+
+    /**
+     * Method that returns specification for responses from requests which get post by valid id, userId and title
+     *
+     * @return response specification
+     */
+    static ResponseSpecification responseSpecificationForGetByValidIdAndUserIdAndTitle() {
+        return RESPONSE_SPECIFICATIONS.get("getByValidIdAndUserIdAndTitle", () -> responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
+                Map.of(
+                        ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_ID)), nullValue()),
+                        USER_ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_USER_ID)), nullValue()),
+                        TITLE_FIELD_NAME, anyOf(everyItem(equalTo(VALID_TITLE)), nullValue())
+                ),
+                is(anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY))),
+                VALID_STATUS,
+                LATENCY_BUDGET_FOR_GET_FILTERED
+        ));
+    }
+
+    /**
+     * Method that returns specification for responses from requests which get post by valid id, userId and body
+     *
+     * @return response specification
+     */
+    static ResponseSpecification responseSpecificationForGetByValidIdAndUserIdAndBody() {
+        return RESPONSE_SPECIFICATIONS.get("getByValidIdAndUserIdAndBody", () -> responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
+                Map.of(
+                        ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_ID)), nullValue()),
+                        USER_ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_USER_ID)), nullValue()),
+                        BODY_FIELD_NAME, anyOf(everyItem(equalTo(VALID_BODY)), nullValue())
+                ),
+                is(anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY))),
+                VALID_STATUS,
+                LATENCY_BUDGET_FOR_GET_FILTERED
+        ));
+    }
+
+    /**
+     * Method that returns specification for responses from requests which get post by valid userId, title and body
+     *
+     * @return response specification
+     */
+    static ResponseSpecification responseSpecificationForGetByValidUserIdAndTitleAndBody() {
+        return RESPONSE_SPECIFICATIONS.get("getByValidUserIdAndTitleAndBody", () -> responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
+                Map.of(
+                        USER_ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_USER_ID)), nullValue()),
+                        TITLE_FIELD_NAME, anyOf(everyItem(equalTo(VALID_TITLE)), nullValue()),
+                        BODY_FIELD_NAME, anyOf(everyItem(equalTo(VALID_BODY)), nullValue())
+                ),
+                is(anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY))),
+                VALID_STATUS,
+                LATENCY_BUDGET_FOR_GET_FILTERED
+        ));
+    }
+
+    /**
+     * Method that returns specification for responses from requests which get post by valid id, title and body
+     *
+     * @return response specification
+     */
+    static ResponseSpecification responseSpecificationForGetByValidIdAndTitleAndBody() {
+        return RESPONSE_SPECIFICATIONS.get("getByValidIdAndTitleAndBody", () -> responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
+                Map.of(
+                        ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_ID)), nullValue()),
+                        TITLE_FIELD_NAME, anyOf(everyItem(equalTo(VALID_TITLE)), nullValue()),
+                        BODY_FIELD_NAME, anyOf(everyItem(equalTo(VALID_BODY)), nullValue())
+                ),
+                is(anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY))),
+                VALID_STATUS,
+                LATENCY_BUDGET_FOR_GET_FILTERED
+        ));
+    }
+
+    /**
+     * Method that returns specification for responses from requests which get post by all fields
+     *
+     * @return response specification
+     */
+    static ResponseSpecification responseSpecificationForGetByValidAllFields() {
+        return RESPONSE_SPECIFICATIONS.get("getByValidAllFields", () -> responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
+                Map.of(
+                        ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_ID)), nullValue()),
+                        USER_ID_FIELD_NAME, anyOf(everyItem(equalTo(VALID_USER_ID)), nullValue()),
+                        TITLE_FIELD_NAME, anyOf(everyItem(equalTo(VALID_TITLE)), nullValue()),
+                        BODY_FIELD_NAME, anyOf(everyItem(equalTo(VALID_BODY)), nullValue())
+                ),
+                is(anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY))),
+                VALID_STATUS,
+                LATENCY_BUDGET_FOR_GET_FILTERED
+        ));
+    }
+
+    /**
+     * Method that builds specification for responses from requests which get posts by any params.
+     * Every found post should have fields equal to params (as strings), like the API compares them.
+     * It is not cached, because it depends on values of params
+     *
+     * @param params params of request
+     * @return response specification
+     */
+    static ResponseSpecification responseSpecificationForGetByAnyParams(Map<String, Object> params) {
+        Map<String, Matcher<?>> fieldsMatchers = new HashMap<>();
+
+        for (Map.Entry<String, Object> param : params.entrySet()) {
+            fieldsMatchers.put(param.getKey(), everyItem(hasToString(String.valueOf(param.getValue()))));
+        }
+
+        return responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
+                fieldsMatchers,
+                anyOf(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS), is(EMPTY_ARRAY)),
+                VALID_STATUS,
+                LATENCY_BUDGET_FOR_GET_FILTERED
+        );
+    }
+
+    /**
+     * Method that builds specification for responses from requests which get post by any id.
+     * Post with id of the dataset should be found (with the same id),
+     * other ids (missing ones and not numbers) should get status 404 with empty body.
+     * It is not cached, because it depends on value of id
+     *
+     * @param id id of post
+     * @return response specification
+     */
+    static ResponseSpecification responseSpecificationForGetByAnyId(Object id) {
+        if (!isIdOfDataset(id)) {
+            return responseSpecificationBuilder.buildSpecWithBodyCheck(
+                    is(EMPTY_JSON),
+                    NOT_FOUND_STATUS,
+                    LATENCY_BUDGET_FOR_GET_BY_ID
+            );
+        }
+
+        return responseSpecificationBuilder.buildSpecWithFieldsAndBodyCheck(
+                Map.of(ID_FIELD_NAME, hasToString(String.valueOf(id))),
+                matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_ONE_POST),
+                VALID_STATUS,
+                LATENCY_BUDGET_FOR_GET_BY_ID
+        );
+    }
+
+    /**
+     * Method that checks if id is an id of a post of the dataset (ids are numbers from 1 to count of posts,
+     * written without signs and leading zeros)
+     *
+     * @param id id of post as it is written in request path
+     * @return true if post with such id exists
+     */
+    private static boolean isIdOfDataset(Object id) {
+        String value = String.valueOf(id);
+
+        try {
+            int number = Integer.parseInt(value);
+            return number >= 1 && number <= POSTS_COUNT && String.valueOf(number).equals(value);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Method that counts posts of the dataset the tests are run against
+     *
+     * @return count of posts
+     */
+    private static int countPosts() {
+        int syntheticPostsCount = TestProperties.getInt(PostsStubServer.SYNTHETIC_POSTS_PROPERTY, 0);
+
+        return TestProperties.isStubEnabled() && syntheticPostsCount > 0
+                ? syntheticPostsCount
+                : PostsRepository.fromClasspath(new ObjectMapper()).size();
+    }
+
+    /**
+     * Method that returns specification for requests with the given base path
+     *
+     * @param basePath base path for requests
+     * @return request specification
+     */
+    private static RequestSpecification requestSpecification(String basePath) {
+        return REQUEST_SPECIFICATIONS.get(basePath, () -> requestSpecificationBuilder.build(
+                BASE_URI,
+                CONTENT_TYPE,
+                basePath
+        ));
+    }
+}
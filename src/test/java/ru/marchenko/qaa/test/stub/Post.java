@@ -0,0 +1,83 @@
+package ru.marchenko.qaa.test.stub;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * Class that represents one post served by the stub server
+ */
+@JsonPropertyOrder({"userId", "id", "title", "body"})
+public class Post {
+
+    /**
+     * Id of the post author
+     */
+    private final int userId;
+
+    /**
+     * Id of the post
+     */
+    private final int id;
+
+    /**
+     * Title of the post
+     */
+    private final String title;
+
+    /**
+     * Body of the post
+     */
+    private final String body;
+
+    @JsonCreator
+    public Post(
+            @JsonProperty("userId") int userId,
+            @JsonProperty("id") int id,
+            @JsonProperty("title") String title,
+            @JsonProperty("body") String body
+    ) {
+        this.userId = userId;
+        this.id = id;
+        this.title = title;
+        this.body = body;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    /**
+     * Method that returns string value of the field in the same form
+     * as it is compared with query parameters
+     *
+     * @param fieldName name of the field
+     * @return string value of the field or null if post has no such field
+     */
+    public String getFieldAsString(String fieldName) {
+        switch (fieldName) {
+            case "userId":
+                return String.valueOf(userId);
+            case "id":
+                return String.valueOf(id);
+            case "title":
+                return title;
+            case "body":
+                return body;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package ru.marchenko.qaa.test.stub;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Class that keeps posts of the stub server in memory (or generates them, see {@link #synthetic})
+ * and filters them like jsonplaceholder does.
+ * Posts are filtered by "id" and "userId" before they are read, so only matching posts are generated
+ */
+public class PostsRepository {
+
+    /**
+     * Path to the classpath resource with posts
+     */
+    private final static String PATH_TO_POSTS = "posts.json";
+
+    /**
+     * Name of "id" field
+     */
+    private final static String ID_FIELD_NAME = "id";
+
+    /**
+     * Name of "userId" field
+     */
+    private final static String USER_ID_FIELD_NAME = "userId";
+
+    /**
+     * Count of posts
+     */
+    private final int size;
+
+    /**
+     * Posts by indexes (ordered by id)
+     */
+    private final IntFunction<Post> postsByIndex;
+
+    /**
+     * Ids of posts by indexes
+     */
+    private final IntUnaryOperator idsByIndex;
+
+    /**
+     * UserIds of posts by indexes
+     */
+    private final IntUnaryOperator userIdsByIndex;
+
+    public PostsRepository(List<Post> posts) {
+        List<Post> keptPosts = Collections.unmodifiableList(new ArrayList<>(posts));
+
+        this.size = keptPosts.size();
+        this.postsByIndex = keptPosts::get;
+        this.idsByIndex = index -> keptPosts.get(index).getId();
+        this.userIdsByIndex = index -> keptPosts.get(index).getUserId();
+    }
+
+    /**
+     * Constructor of repository
+     *
+     * @param size           count of posts
+     * @param postsByIndex   posts by indexes
+     * @param idsByIndex     ids of posts by indexes
+     * @param userIdsByIndex userIds of posts by indexes
+     */
+    private PostsRepository(
+            int size,
+            IntFunction<Post> postsByIndex,
+            IntUnaryOperator idsByIndex,
+            IntUnaryOperator userIdsByIndex
+    ) {
+        this.size = size;
+        this.postsByIndex = postsByIndex;
+        this.idsByIndex = idsByIndex;
+        this.userIdsByIndex = userIdsByIndex;
+    }
+
+    /**
+     * Method that loads posts from the classpath resource
+     *
+     * @param objectMapper mapper for reading JSON
+     * @return repository with loaded posts
+     */
+    public static PostsRepository fromClasspath(ObjectMapper objectMapper) {
+        try (InputStream inputStream = PostsRepository.class.getClassLoader().getResourceAsStream(PATH_TO_POSTS)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("Resource " + PATH_TO_POSTS + " is not found in classpath");
+            }
+
+            return new PostsRepository(objectMapper.readValue(inputStream, new TypeReference<List<Post>>() {}));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Method that creates repository of generated posts (they are generated on every read and are not kept)
+     *
+     * @param syntheticPosts generator of posts
+     * @return repository with generated posts
+     */
+    public static PostsRepository synthetic(SyntheticPosts syntheticPosts) {
+        return new PostsRepository(
+                syntheticPosts.getPostsCount(),
+                syntheticPosts::generate,
+                syntheticPosts::getId,
+                syntheticPosts::getUserId
+        );
+    }
+
+    /**
+     * Getter for count of posts
+     *
+     * @return count of all posts
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Method that finds post by id
+     *
+     * @param id id of the post as it was written in request path
+     * @return found post or null if there is no such post
+     */
+    public Post findById(String id) {
+        return stream(Map.of(ID_FIELD_NAME, List.of(id))).findFirst().orElse(null);
+    }
+
+    /**
+     * Method that finds posts which fields are equal to the query parameters.
+     * Several values of one parameter match any of them
+     *
+     * @param filters query parameters
+     * @return found posts
+     */
+    public List<Post> findAll(Map<String, List<String>> filters) {
+        return stream(filters).collect(Collectors.toList());
+    }
+
+    /**
+     * Method that counts posts which fields are equal to the query parameters
+     * (posts are not read if there are no filters except "id" and "userId")
+     *
+     * @param filters query parameters
+     * @return count of found posts
+     */
+    public long count(Map<String, List<String>> filters) {
+        if (filters.keySet().stream().allMatch(PostsRepository::isIdField)) {
+            return IntStream.range(0, size).filter(matchesIds(filters)).count();
+        }
+
+        return stream(filters).count();
+    }
+
+    /**
+     * Method that lazily finds posts which fields are equal to the query parameters (in order of ids)
+     *
+     * @param filters query parameters
+     * @return stream of found posts
+     */
+    public Stream<Post> stream(Map<String, List<String>> filters) {
+        return IntStream.range(0, size)
+                .filter(matchesIds(filters))
+                .mapToObj(postsByIndex)
+                .filter(post -> matches(post, filters));
+    }
+
+    /**
+     * Method that lazily finds page of posts which fields are equal to the query parameters (in order of ids).
+     * Skipped posts are not read if there are no filters except "id" and "userId"
+     *
+     * @param filters query parameters
+     * @param offset  count of skipped found posts
+     * @param limit   max count of posts
+     * @return stream of found posts of the page
+     */
+    public Stream<Post> stream(Map<String, List<String>> filters, long offset, long limit) {
+        if (filters.keySet().stream().allMatch(PostsRepository::isIdField)) {
+            return IntStream.range(0, size)
+                    .filter(matchesIds(filters))
+                    .skip(offset)
+                    .limit(limit)
+                    .mapToObj(postsByIndex);
+        }
+
+        return stream(filters).skip(offset).limit(limit);
+    }
+
+    /**
+     * Method that builds check of "id" and "userId" of post by its index
+     *
+     * @param filters query parameters
+     * @return predicate of indexes of posts
+     */
+    private IntPredicate matchesIds(Map<String, List<String>> filters) {
+        IntPredicate predicate = index -> true;
+
+        if (filters.containsKey(ID_FIELD_NAME)) {
+            List<String> ids = filters.get(ID_FIELD_NAME);
+            predicate = predicate.and(index -> containsInt(ids, idsByIndex.applyAsInt(index)));
+        }
+
+        if (filters.containsKey(USER_ID_FIELD_NAME)) {
+            List<String> userIds = filters.get(USER_ID_FIELD_NAME);
+            predicate = predicate.and(index -> containsInt(userIds, userIdsByIndex.applyAsInt(index)));
+        }
+
+        return predicate;
+    }
+
+    /**
+     * Method that checks post by query parameters ("id" and "userId" are checked by {@link #matchesIds})
+     *
+     * @param post    post for check
+     * @param filters query parameters
+     * @return true if all other fields of the post are equal to the parameters
+     */
+    private boolean matches(Post post, Map<String, List<String>> filters) {
+        for (Map.Entry<String, List<String>> filter : filters.entrySet()) {
+            if (!isIdField(filter.getKey()) && !filter.getValue().contains(post.getFieldAsString(filter.getKey()))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Method that checks if field is checked by indexes of posts
+     *
+     * @param name name of field
+     * @return true for "id" and "userId"
+     */
+    private static boolean isIdField(String name) {
+        return ID_FIELD_NAME.equals(name) || USER_ID_FIELD_NAME.equals(name);
+    }
+
+    /**
+     * Method that checks if query parameter values contain number as it is written by {@link String#valueOf(int)}
+     *
+     * @param values values of query parameter
+     * @param number number
+     * @return true if one of values is the number
+     */
+    private static boolean containsInt(List<String> values, int number) {
+        for (String value : values) {
+            if (isInt(value, number)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Method that checks if string is number written by {@link String#valueOf(int)} without creating strings
+     *
+     * @param value  string
+     * @param number number
+     * @return true if string is the number
+     */
+    private static boolean isInt(String value, int number) {
+        long rest = Math.abs((long) number);
+        int position = value.length();
+
+        do {
+            if (--position < 0 || value.charAt(position) != (char) ('0' + rest % 10)) {
+                return false;
+            }
+
+            rest /= 10;
+        } while (rest > 0);
+
+        return number < 0 ? position == 1 && value.charAt(0) == '-' : position == 0;
+    }
+}
@@ -0,0 +1,534 @@
+package ru.marchenko.qaa.test.stub;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import ru.marchenko.qaa.test.util.TestProperties;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Class that serves /posts resources from memory on the loopback interface,
+ * so tests don't depend on network access to jsonplaceholder.
+ * Requests for non-existent posts return empty JSON with status Not Found (404) like jsonplaceholder does,
+ * so tests of the bug report from the third task fail offline in the same way as against the real API.
+ * Bodies are compressed by gzip or deflate if the client accepts them (by weights of Accept-Encoding header).
+ * Collection is paginated like by json-server: by "_page" and "_limit" or by "_start" and "_end" (or "_limit")
+ * query parameters, total count of found posts is returned in "X-Total-Count" header.
+ * Instead of posts.json it can serve generated posts ("api.stub.synthetic.posts", see {@link SyntheticPosts}),
+ * collections of large datasets are streamed
+ */
+public class PostsStubServer {
+
+    /**
+     * Name of property with count of generated posts (0 means posts from posts.json)
+     */
+    public final static String SYNTHETIC_POSTS_PROPERTY = "api.stub.synthetic.posts";
+
+    /**
+     * Name of property with count of users of generated posts
+     */
+    public final static String SYNTHETIC_USERS_PROPERTY = "api.stub.synthetic.users";
+
+    /**
+     * Name of property with seed of generated posts
+     */
+    public final static String SYNTHETIC_SEED_PROPERTY = "api.stub.synthetic.seed";
+
+    /**
+     * Path of the posts collection
+     */
+    private final static String POSTS_PATH = "/posts";
+
+    /**
+     * Content type of responses
+     */
+    private final static String CONTENT_TYPE = "application/json; charset=utf-8";
+
+    /**
+     * Content encodings supported by the server (in order of preference for equal weights)
+     */
+    private final static List<String> CONTENT_ENCODINGS = List.of("gzip", "deflate");
+
+    /**
+     * Min size of body which is compressed (smaller bodies don't get shorter)
+     */
+    private final static int MIN_COMPRESSED_BYTES = 256;
+
+    /**
+     * Prefix of query parameters which control pagination (they are not filters)
+     */
+    private final static String PAGING_PARAM_PREFIX = "_";
+
+    /**
+     * Default size of page when "_page" parameter is set without "_limit"
+     */
+    private final static int DEFAULT_PAGE_LIMIT = 10;
+
+    /**
+     * Max count of posts in repository whose collections are written to memory before sending
+     * (collections of larger repositories are streamed by chunks)
+     */
+    private final static int MAX_BUFFERED_POSTS = 1000;
+
+    /**
+     * Default count of users of generated posts (as in jsonplaceholder)
+     */
+    private final static int DEFAULT_SYNTHETIC_USERS = 10;
+
+    /**
+     * Default seed of generated posts
+     */
+    private final static long DEFAULT_SYNTHETIC_SEED = 42;
+
+    /**
+     * Empty JSON brackets
+     */
+    private final static String EMPTY_JSON = "{}";
+
+    /**
+     * Name of JDK HTTP server property that disables Nagle's algorithm on accepted connections.
+     * Without it responses on keep-alive connections are delayed by TCP delayed acknowledgement
+     */
+    private final static String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    /**
+     * Status OK
+     */
+    private final static int STATUS_OK = 200;
+
+    /**
+     * Status Not Found
+     */
+    private final static int STATUS_NOT_FOUND = 404;
+
+    /**
+     * Status Method Not Allowed
+     */
+    private final static int STATUS_METHOD_NOT_ALLOWED = 405;
+
+    /**
+     * Mapper for writing JSON
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Posts served by the server
+     */
+    private final PostsRepository postsRepository;
+
+    /**
+     * Underlying HTTP server
+     */
+    private final HttpServer httpServer;
+
+    /**
+     * Executor that handles exchanges
+     */
+    private final ExecutorService executorService;
+
+    public PostsStubServer(ObjectMapper objectMapper, PostsRepository postsRepository) {
+        this.objectMapper = objectMapper;
+        this.postsRepository = postsRepository;
+
+        try {
+            this.httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        this.executorService = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "posts-stub-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        httpServer.createContext(POSTS_PATH, this::handle);
+        httpServer.setExecutor(executorService);
+    }
+
+    /**
+     * Method that returns the server shared by all tests of the JVM.
+     * The server is started on the first call and stopped on JVM shutdown
+     *
+     * @return started server
+     */
+    public static PostsStubServer getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Method that starts the server.
+     * Dispatcher thread of the server inherits daemon flag from the thread which starts it,
+     * so the server is started from a daemon thread and doesn't keep JVM alive
+     */
+    public void start() {
+        Thread starter = new Thread(httpServer::start, "posts-stub-server-starter");
+        starter.setDaemon(true);
+        starter.start();
+
+        try {
+            starter.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Stub server start was interrupted", e);
+        }
+    }
+
+    /**
+     * Method that stops the server
+     */
+    public void stop() {
+        httpServer.stop(0);
+        executorService.shutdownNow();
+    }
+
+    /**
+     * Method that returns base URI of the server
+     *
+     * @return base URI (like http://127.0.0.1:port)
+     */
+    public String getBaseUri() {
+        InetSocketAddress address = httpServer.getAddress();
+        return "http://" + address.getAddress().getHostAddress() + ":" + address.getPort();
+    }
+
+    /**
+     * Method that handles one exchange
+     *
+     * @param exchange HTTP exchange
+     * @throws IOException if response can't be written
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+
+            if (!"GET".equals(method) && !"HEAD".equals(method)) {
+                send(exchange, STATUS_METHOD_NOT_ALLOWED, EMPTY_JSON);
+                return;
+            }
+
+            String path = exchange.getRequestURI().getRawPath();
+
+            if (POSTS_PATH.equals(path) || (POSTS_PATH + "/").equals(path)) {
+                Map<String, List<String>> params = parseQuery(exchange.getRequestURI().getRawQuery());
+                Map<String, List<String>> filters = new LinkedHashMap<>(params);
+                filters.keySet().removeIf(name -> name.startsWith(PAGING_PARAM_PREFIX));
+
+                Stream<Post> posts = postsRepository.stream(filters);
+
+                if (filters.size() < params.size()) {
+                    long totalCount = postsRepository.count(filters);
+                    int[] page = getPage(params, totalCount);
+                    exchange.getResponseHeaders().set("X-Total-Count", String.valueOf(totalCount));
+                    posts = postsRepository.stream(filters, page[0], page[1] - page[0]);
+                }
+
+                if (postsRepository.size() > MAX_BUFFERED_POSTS) {
+                    sendStream(exchange, STATUS_OK, posts);
+                } else {
+                    send(exchange, STATUS_OK, objectMapper.writeValueAsString(posts.collect(Collectors.toList())));
+                }
+
+                return;
+            }
+
+            if (path.startsWith(POSTS_PATH + "/") && path.indexOf('/', POSTS_PATH.length() + 1) < 0) {
+                Post post = postsRepository.findById(decode(path.substring(POSTS_PATH.length() + 1)));
+
+                if (post == null) {
+                    send(exchange, STATUS_NOT_FOUND, EMPTY_JSON);
+                } else {
+                    send(exchange, STATUS_OK, objectMapper.writeValueAsString(post));
+                }
+
+                return;
+            }
+
+            send(exchange, STATUS_NOT_FOUND, EMPTY_JSON);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Method that writes response
+     *
+     * @param exchange HTTP exchange
+     * @param status   response status
+     * @param body     response body
+     * @throws IOException if response can't be written
+     */
+    private void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        boolean head = "HEAD".equals(exchange.getRequestMethod());
+        String contentEncoding = negotiateEncoding(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.getResponseHeaders().set("Vary", "Accept-Encoding");
+
+        if (contentEncoding != null && bytes.length >= MIN_COMPRESSED_BYTES) {
+            bytes = compress(bytes, contentEncoding);
+            exchange.getResponseHeaders().set("Content-Encoding", contentEncoding);
+        }
+
+        exchange.sendResponseHeaders(status, head ? -1 : bytes.length);
+
+        if (!head) {
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Method that writes JSON array of posts by chunks while posts are found,
+     * so the whole body is never kept in memory (compressed if the client accepts it)
+     *
+     * @param exchange HTTP exchange
+     * @param status   response status
+     * @param posts    found posts
+     * @throws IOException if response can't be written
+     */
+    private void sendStream(HttpExchange exchange, int status, Stream<Post> posts) throws IOException {
+        boolean head = "HEAD".equals(exchange.getRequestMethod());
+        String contentEncoding = negotiateEncoding(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.getResponseHeaders().set("Vary", "Accept-Encoding");
+
+        if (contentEncoding != null) {
+            exchange.getResponseHeaders().set("Content-Encoding", contentEncoding);
+        }
+
+        exchange.sendResponseHeaders(status, head ? -1 : 0);
+
+        if (head) {
+            return;
+        }
+
+        OutputStream outputStream = contentEncoding == null
+                ? exchange.getResponseBody()
+                : encode(exchange.getResponseBody(), contentEncoding);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.writeStartArray();
+
+            for (Iterator<Post> iterator = posts.iterator(); iterator.hasNext(); ) {
+                objectMapper.writeValue(generator, iterator.next());
+            }
+
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * Method that returns bounds of requested page of found posts
+     *
+     * @param params     query parameters with "_page" and "_limit" or "_start" and "_end" (or "_limit")
+     * @param totalCount count of found posts
+     * @return index of the first post of the page (inclusive) and index of the last one (exclusive)
+     */
+    private static int[] getPage(Map<String, List<String>> params, long totalCount) {
+        int count = (int) Math.min(totalCount, Integer.MAX_VALUE);
+        int limit = getIntParam(params, "_limit", -1);
+        int page = getIntParam(params, "_page", -1);
+        int start;
+        int end;
+
+        if (page > 0) {
+            limit = limit < 0 ? DEFAULT_PAGE_LIMIT : limit;
+            start = (page - 1) * limit;
+            end = start + limit;
+        } else {
+            start = Math.max(getIntParam(params, "_start", 0), 0);
+            end = getIntParam(params, "_end", limit < 0 ? count : start + limit);
+        }
+
+        start = Math.min(start, count);
+        return new int[]{start, Math.max(start, Math.min(end, count))};
+    }
+
+    /**
+     * Method that reads integer query parameter
+     *
+     * @param params       query parameters
+     * @param name         name of parameter
+     * @param defaultValue value if parameter is not set or is not an integer
+     * @return value of parameter (the first one)
+     */
+    private static int getIntParam(Map<String, List<String>> params, String name, int defaultValue) {
+        List<String> values = params.get(name);
+
+        if (values == null) {
+            return defaultValue;
+        }
+
+        try {
+            return Integer.parseInt(values.get(0).trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Method that chooses content encoding of response: supported encoding with the highest weight
+     *
+     * @param acceptEncoding value of Accept-Encoding header (may be null)
+     * @return content encoding or null if response should not be compressed
+     */
+    private static String negotiateEncoding(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return null;
+        }
+
+        String chosenEncoding = null;
+        double chosenWeight = 0;
+
+        for (String item : acceptEncoding.split(",")) {
+            String[] parts = item.split(";");
+            String encoding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double weight = 1;
+
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+
+                if (parameter.startsWith("q=")) {
+                    try {
+                        weight = Double.parseDouble(parameter.substring(2));
+                    } catch (NumberFormatException e) {
+                        weight = 0;
+                    }
+                }
+            }
+
+            if (CONTENT_ENCODINGS.contains(encoding) && (weight > chosenWeight || weight == chosenWeight
+                    && CONTENT_ENCODINGS.indexOf(encoding) < CONTENT_ENCODINGS.indexOf(chosenEncoding))) {
+                chosenEncoding = encoding;
+                chosenWeight = weight;
+            }
+        }
+
+        return chosenEncoding;
+    }
+
+    /**
+     * Method that compresses body
+     *
+     * @param bytes           body
+     * @param contentEncoding content encoding (gzip or deflate)
+     * @return compressed body
+     * @throws IOException if body can't be compressed
+     */
+    private static byte[] compress(byte[] bytes, String contentEncoding) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 2);
+
+        try (OutputStream outputStream = encode(compressed, contentEncoding)) {
+            outputStream.write(bytes);
+        }
+
+        return compressed.toByteArray();
+    }
+
+    /**
+     * Method that wraps stream by compressing stream
+     *
+     * @param outputStream    stream of compressed body
+     * @param contentEncoding content encoding (gzip or deflate)
+     * @return stream of body
+     * @throws IOException if compressing stream can't be created
+     */
+    private static OutputStream encode(OutputStream outputStream, String contentEncoding) throws IOException {
+        return "gzip".equals(contentEncoding)
+                ? new GZIPOutputStream(outputStream)
+                : new DeflaterOutputStream(outputStream);
+    }
+
+    /**
+     * Method that parses raw query string into parameters
+     *
+     * @param rawQuery raw query string (may be null)
+     * @return parameters with all their values in order of appearance
+     */
+    private static Map<String, List<String>> parseQuery(String rawQuery) {
+        Map<String, List<String>> params = new LinkedHashMap<>();
+
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return params;
+        }
+
+        for (String pair : rawQuery.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+
+            int separatorIndex = pair.indexOf('=');
+            String name = decode(separatorIndex < 0 ? pair : pair.substring(0, separatorIndex));
+            String value = separatorIndex < 0 ? "" : decode(pair.substring(separatorIndex + 1));
+
+            params.computeIfAbsent(name, key -> new ArrayList<>()).add(value);
+        }
+
+        return params;
+    }
+
+    /**
+     * Method that decodes URL-encoded string
+     *
+     * @param value encoded string
+     * @return decoded string
+     */
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Holder of the shared server, so it is created only when it is requested
+     */
+    private static class Holder {
+
+        private final static PostsStubServer INSTANCE = createAndStart();
+
+        private static PostsStubServer createAndStart() {
+            if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+                System.setProperty(NO_DELAY_PROPERTY, "true");
+            }
+
+            ObjectMapper objectMapper = new ObjectMapper();
+            int syntheticPostsCount = TestProperties.getInt(SYNTHETIC_POSTS_PROPERTY, 0);
+            PostsRepository postsRepository = syntheticPostsCount > 0
+                    ? PostsRepository.synthetic(new SyntheticPosts(
+                            syntheticPostsCount,
+                            TestProperties.getInt(SYNTHETIC_USERS_PROPERTY, DEFAULT_SYNTHETIC_USERS),
+                            TestProperties.getLong(SYNTHETIC_SEED_PROPERTY, DEFAULT_SYNTHETIC_SEED)
+                    ))
+                    : PostsRepository.fromClasspath(objectMapper);
+            PostsStubServer server = new PostsStubServer(objectMapper, postsRepository);
+
+            server.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(server::stop, "posts-stub-server-shutdown"));
+
+            return server;
+        }
+    }
+}
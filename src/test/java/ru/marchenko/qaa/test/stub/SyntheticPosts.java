@@ -0,0 +1,130 @@
+package ru.marchenko.qaa.test.stub;
+
+import java.util.SplittableRandom;
+
+/**
+ * Class that generates posts of the shape of JSONSchemaForOnePost.json (numbers "userId" and "id" from 1,
+ * strings "title" and "body") instead of keeping them, so the stub server can serve millions of posts.
+ * Every post is computed from its index and the seed only, so it is the same in every run and on every request.
+ * Posts are split between users by blocks like in jsonplaceholder (posts 1-10 of user 1 for 100 posts and 10 users),
+ * titles and bodies are made of pseudo-latin words (body consists of several lines separated by "\n")
+ */
+public class SyntheticPosts {
+
+    /**
+     * Words of titles and bodies
+     */
+    private final static String[] WORDS = {
+            "sunt", "aut", "facere", "repellat", "provident", "occaecati", "excepturi", "optio", "reprehenderit",
+            "quia", "et", "suscipit", "recusandae", "consequuntur", "expedita", "cum", "rerum", "est", "autem",
+            "nostrum", "qui", "esse", "voluptas", "dolor", "beatae", "ea", "dolores", "neque", "fugiat",
+            "blanditiis", "voluptate", "porro", "vel", "nihil", "molestiae", "ut", "reiciendis", "architecto",
+            "eum", "magnam", "tempora", "ipsam", "iure", "odit", "nesciunt", "nisi", "accusamus", "minima"
+    };
+
+    /**
+     * Multiplier that spreads indexes of posts over seeds of their random generators (golden ratio)
+     */
+    private final static long SEED_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Count of posts
+     */
+    private final int postsCount;
+
+    /**
+     * Count of posts of every user (the last user may have less)
+     */
+    private final int postsPerUser;
+
+    /**
+     * Seed of generated texts
+     */
+    private final long seed;
+
+    /**
+     * Constructor of generator
+     *
+     * @param postsCount count of posts
+     * @param usersCount count of users
+     * @param seed       seed of generated texts
+     */
+    public SyntheticPosts(int postsCount, int usersCount, long seed) {
+        if (postsCount < 0 || usersCount < 1) {
+            throw new IllegalArgumentException(
+                    "Invalid synthetic dataset: " + postsCount + " posts of " + usersCount + " users"
+            );
+        }
+
+        this.postsCount = postsCount;
+        this.postsPerUser = Math.max(1, (int) ((postsCount + (long) usersCount - 1) / usersCount));
+        this.seed = seed;
+    }
+
+    /**
+     * Getter for count of posts
+     *
+     * @return count of posts
+     */
+    public int getPostsCount() {
+        return postsCount;
+    }
+
+    /**
+     * Method that returns id of post
+     *
+     * @param index index of post (from 0)
+     * @return id of post
+     */
+    public int getId(int index) {
+        return index + 1;
+    }
+
+    /**
+     * Method that returns userId of post
+     *
+     * @param index index of post (from 0)
+     * @return userId of post
+     */
+    public int getUserId(int index) {
+        return index / postsPerUser + 1;
+    }
+
+    /**
+     * Method that generates post
+     *
+     * @param index index of post (from 0)
+     * @return post
+     */
+    public Post generate(int index) {
+        SplittableRandom random = new SplittableRandom(seed ^ (getId(index) * SEED_MULTIPLIER));
+        String title = words(random, 3, 9);
+        StringBuilder body = new StringBuilder();
+        int lines = random.nextInt(3, 6);
+
+        for (int i = 0; i < lines; i++) {
+            body.append(i == 0 ? "" : "\n").append(words(random, 5, 12));
+        }
+
+        return new Post(getUserId(index), getId(index), title, body.toString());
+    }
+
+    /**
+     * Method that generates words separated by spaces
+     *
+     * @param random   random generator of post
+     * @param minCount min count of words (inclusive)
+     * @param maxCount max count of words (exclusive)
+     * @return words
+     */
+    private static String words(SplittableRandom random, int minCount, int maxCount) {
+        StringBuilder words = new StringBuilder();
+        int count = random.nextInt(minCount, maxCount);
+
+        for (int i = 0; i < count; i++) {
+            words.append(i == 0 ? "" : " ").append(WORDS[random.nextInt(WORDS.length)]);
+        }
+
+        return words.toString();
+    }
+}
@@ -0,0 +1,28 @@
+package ru.marchenko.qaa.test.util;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Extension that writes Allure attachments kept by {@link AllureAttachmentWriter} only when the test fails.
+ * It does nothing unless "allure.attachments.failed.only" property is set.
+ * It is registered for every test class in META-INF/services (extensions are autodetected),
+ * so kept attachments of any suite are written or dropped when its test is finished
+ */
+public class AllureAttachmentExtension implements BeforeEachCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        AllureAttachmentWriter.discardPending();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        if (context.getExecutionException().isPresent()) {
+            AllureAttachmentWriter.publishPending();
+        } else {
+            AllureAttachmentWriter.discardPending();
+        }
+    }
+}
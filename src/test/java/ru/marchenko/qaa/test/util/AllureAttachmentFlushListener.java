@@ -0,0 +1,17 @@
+package ru.marchenko.qaa.test.util;
+
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Listener that waits until {@link AllureAttachmentWriter} writes all attachments when the test plan is finished,
+ * so the writer (daemon thread) is not stopped with the JVM in the middle of the queue.
+ * It is registered in META-INF/services
+ */
+public class AllureAttachmentFlushListener implements TestExecutionListener {
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        AllureAttachmentWriter.flush();
+    }
+}
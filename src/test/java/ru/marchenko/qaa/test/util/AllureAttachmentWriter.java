@@ -0,0 +1,354 @@
+package ru.marchenko.qaa.test.util;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.WithAttachments;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Class that writes Allure attachments in a background thread.
+ * Attachment is linked to the current test or step in the calling thread (it is cheap),
+ * its content is built and written to allure-results later by a single writer thread in batches,
+ * so serialization and disk I/O are not counted in time of tests.
+ * If "allure.attachments.failed.only" property is set, attachments are kept in memory of the test thread
+ * and are written only if the test fails (see {@link AllureAttachmentExtension}). Test or step of such attachment
+ * is found when it is attached, so it is linked to the step which was running then, not to the test
+ */
+public final class AllureAttachmentWriter {
+
+    /**
+     * Name of property that enables attachments only for failed tests
+     */
+    public final static String FAILED_ONLY_PROPERTY = "allure.attachments.failed.only";
+
+    /**
+     * Max count of attachments kept by the test thread until the end of the test
+     */
+    private final static int MAX_PENDING_ATTACHMENTS = 256;
+
+    /**
+     * Capacity of queue of writer (calling threads wait if writer falls behind)
+     */
+    private final static int QUEUE_CAPACITY = 1024;
+
+    /**
+     * Max count of attachments written in one batch
+     */
+    private final static int BATCH_SIZE = 64;
+
+    /**
+     * Suffix of names of attachment files (the same as Allure uses)
+     */
+    private final static String ATTACHMENT_FILE_SUFFIX = "-attachment";
+
+    /**
+     * Whether attachments are written only for failed tests
+     */
+    private final static boolean FAILED_ONLY = TestProperties.getBoolean(FAILED_ONLY_PROPERTY, false);
+
+    /**
+     * Attachments of the current test which are waiting for its result
+     */
+    private final static ThreadLocal<Deque<PendingAttachment>> PENDING = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * Attachments which are waiting for writing
+     */
+    private final static BlockingQueue<WriteTask> QUEUE = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+
+    /**
+     * Lock for count of not written attachments
+     */
+    private final static Object LOCK = new Object();
+
+    /**
+     * Count of submitted but not written attachments (guarded by {@link #LOCK})
+     */
+    private static long notWritten;
+
+    static {
+        Thread writer = new Thread(AllureAttachmentWriter::write, "allure-attachment-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    private AllureAttachmentWriter() {
+    }
+
+    /**
+     * Method that attaches content to the current Allure test or step.
+     * Nothing is attached if no test is running in the current thread (for example, in load test workers)
+     *
+     * @param name          name of attachment
+     * @param type          MIME type of attachment
+     * @param fileExtension extension of attachment file
+     * @param content       supplier of content (it is called in the writer thread)
+     */
+    public static void attach(String name, String type, String fileExtension, Supplier<byte[]> content) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        Optional<String> current = lifecycle.getCurrentTestCaseOrStep();
+
+        if (current.isEmpty()) {
+            return;
+        }
+
+        if (FAILED_ONLY) {
+            Deque<PendingAttachment> pending = PENDING.get();
+
+            if (pending.size() == MAX_PENDING_ATTACHMENTS) {
+                pending.removeFirst();
+            }
+
+            pending.addLast(new PendingAttachment(
+                    findTestOrStep(lifecycle, current.get()),
+                    name,
+                    type,
+                    fileExtension,
+                    content
+            ));
+        } else {
+            submit(lifecycle, lifecycle.prepareAttachment(name, type, fileExtension), content);
+        }
+    }
+
+    /**
+     * Method that writes attachments kept by the current thread for its test
+     */
+    public static void publishPending() {
+        Deque<PendingAttachment> pending = PENDING.get();
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+
+        while (!pending.isEmpty()) {
+            PendingAttachment attachment = pending.removeFirst();
+            String source = attachment.testOrStep == null
+                    ? lifecycle.prepareAttachment(attachment.name, attachment.type, attachment.fileExtension)
+                    : link(attachment);
+
+            submit(lifecycle, source, attachment.content);
+        }
+    }
+
+    /**
+     * Method that drops attachments kept by the current thread for its test
+     */
+    public static void discardPending() {
+        PENDING.get().clear();
+    }
+
+    /**
+     * Method that waits until all submitted attachments are written
+     */
+    public static void flush() {
+        synchronized (LOCK) {
+            while (notWritten > 0) {
+                try {
+                    LOCK.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Method that finds running test or step by its uuid
+     *
+     * @param lifecycle Allure lifecycle
+     * @param uuid      uuid of the current test or step
+     * @return test or step (null if it is neither of them, like a fixture)
+     */
+    private static WithAttachments findTestOrStep(AllureLifecycle lifecycle, String uuid) {
+        AtomicReference<WithAttachments> testOrStep = new AtomicReference<>();
+
+        if (lifecycle.getCurrentTestCase().filter(uuid::equals).isPresent()) {
+            lifecycle.updateTestCase(uuid, testOrStep::set);
+        } else {
+            lifecycle.updateStep(uuid, testOrStep::set);
+        }
+
+        return testOrStep.get();
+    }
+
+    /**
+     * Method that links kept attachment to its test or step (like {@link AllureLifecycle#prepareAttachment} does
+     * for the current one). Test result is not written yet, so the step is a part of it even if it is finished
+     *
+     * @param attachment attachment
+     * @return name of attachment file
+     */
+    private static String link(PendingAttachment attachment) {
+        String extension = attachment.fileExtension == null || attachment.fileExtension.isEmpty()
+                || attachment.fileExtension.charAt(0) == '.'
+                ? attachment.fileExtension
+                : "." + attachment.fileExtension;
+        String source = UUID.randomUUID() + ATTACHMENT_FILE_SUFFIX + (extension == null ? "" : extension);
+
+        attachment.testOrStep.getAttachments().add(new Attachment()
+                .setName(attachment.name)
+                .setType(attachment.type)
+                .setSource(source));
+
+        return source;
+    }
+
+    /**
+     * Method that passes linked attachment to the writer
+     *
+     * @param lifecycle Allure lifecycle which linked attachment
+     * @param source    name of attachment file
+     * @param content   supplier of content
+     */
+    private static void submit(AllureLifecycle lifecycle, String source, Supplier<byte[]> content) {
+        synchronized (LOCK) {
+            notWritten++;
+        }
+
+        try {
+            QUEUE.put(new WriteTask(lifecycle, source, content));
+        } catch (InterruptedException e) {
+            markWritten(1);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Loop of the writer thread
+     */
+    private static void write() {
+        List<WriteTask> batch = new ArrayList<>(BATCH_SIZE);
+
+        while (true) {
+            try {
+                batch.add(QUEUE.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            QUEUE.drainTo(batch, BATCH_SIZE - 1);
+
+            for (WriteTask task : batch) {
+                try {
+                    task.lifecycle.writeAttachment(task.source, new ByteArrayInputStream(task.content.get()));
+                } catch (RuntimeException e) {
+                    System.err.println("Can't write Allure attachment " + task.source + ": " + e);
+                }
+            }
+
+            markWritten(batch.size());
+            batch.clear();
+        }
+    }
+
+    /**
+     * Method that decreases count of not written attachments
+     *
+     * @param count count of written (or dropped) attachments
+     */
+    private static void markWritten(int count) {
+        synchronized (LOCK) {
+            notWritten -= count;
+            LOCK.notifyAll();
+        }
+    }
+
+    /**
+     * Attachment which is not linked to test yet
+     */
+    private static class PendingAttachment {
+
+        /**
+         * Test or step which was running when content was attached (null if it is unknown)
+         */
+        private final WithAttachments testOrStep;
+
+        /**
+         * Name of attachment
+         */
+        private final String name;
+
+        /**
+         * MIME type of attachment
+         */
+        private final String type;
+
+        /**
+         * Extension of attachment file
+         */
+        private final String fileExtension;
+
+        /**
+         * Supplier of content
+         */
+        private final Supplier<byte[]> content;
+
+        /**
+         * Constructor of attachment
+         *
+         * @param testOrStep    test or step which was running when content was attached
+         * @param name          name of attachment
+         * @param type          MIME type of attachment
+         * @param fileExtension extension of attachment file
+         * @param content       supplier of content
+         */
+        private PendingAttachment(
+                WithAttachments testOrStep,
+                String name,
+                String type,
+                String fileExtension,
+                Supplier<byte[]> content
+        ) {
+            this.testOrStep = testOrStep;
+            this.name = name;
+            this.type = type;
+            this.fileExtension = fileExtension;
+            this.content = content;
+        }
+    }
+
+    /**
+     * Attachment which is linked to test and waits for writing
+     */
+    private static class WriteTask {
+
+        /**
+         * Allure lifecycle which linked attachment
+         */
+        private final AllureLifecycle lifecycle;
+
+        /**
+         * Name of attachment file
+         */
+        private final String source;
+
+        /**
+         * Supplier of content
+         */
+        private final Supplier<byte[]> content;
+
+        /**
+         * Constructor of task
+         *
+         * @param lifecycle Allure lifecycle which linked attachment
+         * @param source    name of attachment file
+         * @param content   supplier of content
+         */
+        private WriteTask(AllureLifecycle lifecycle, String source, Supplier<byte[]> content) {
+            this.lifecycle = lifecycle;
+            this.source = source;
+            this.content = content;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package ru.marchenko.qaa.test.util;
+
+import io.qameta.allure.attachment.AttachmentData;
+import io.qameta.allure.attachment.FreemarkerAttachmentRenderer;
+import io.qameta.allure.attachment.http.HttpRequestAttachment;
+import io.qameta.allure.attachment.http.HttpResponseAttachment;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.internal.NameAndValue;
+import io.restassured.internal.support.Prettifier;
+import io.restassured.parsing.Parser;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Filter that attaches requests and responses to Allure report like {@code AllureRestAssured}
+ * (with the same templates), but prettifies, renders and writes them in the background
+ * by {@link AllureAttachmentWriter}. Bodies longer than "allure.attachment.body.max.length" characters
+ * are truncated in the calling thread (so only the head of body waits for the writer) and are not prettified.
+ * Requests are not attached if diagnostics are disabled
+ * (see {@link RequestDiagnostics})
+ */
+public class AsyncAllureRestAssured implements OrderedFilter {
+
+    /**
+     * Name of property with max length of attached body
+     */
+    public final static String BODY_MAX_LENGTH_PROPERTY = "allure.attachment.body.max.length";
+
+    /**
+     * Default max length of attached body
+     */
+    private final static int DEFAULT_BODY_MAX_LENGTH = 64 * 1024;
+
+    /**
+     * Name of request attachment
+     */
+    private final static String REQUEST_ATTACHMENT_NAME = "Request";
+
+    /**
+     * MIME type of rendered attachments
+     */
+    private final static String ATTACHMENT_TYPE = "text/html";
+
+    /**
+     * Extension of rendered attachments
+     */
+    private final static String ATTACHMENT_FILE_EXTENSION = ".html";
+
+    /**
+     * Renderer of requests (it is used only by the writer thread)
+     */
+    private final static FreemarkerAttachmentRenderer REQUEST_RENDERER
+            = new FreemarkerAttachmentRenderer("http-request.ftl");
+
+    /**
+     * Renderer of responses (it is used only by the writer thread)
+     */
+    private final static FreemarkerAttachmentRenderer RESPONSE_RENDERER
+            = new FreemarkerAttachmentRenderer("http-response.ftl");
+
+    /**
+     * Max length of attached body
+     */
+    private final int bodyMaxLength = TestProperties.getInt(BODY_MAX_LENGTH_PROPERTY, DEFAULT_BODY_MAX_LENGTH);
+
+    @Override
+    public Response filter(
+            FilterableRequestSpecification requestSpec,
+            FilterableResponseSpecification responseSpec,
+            FilterContext ctx
+    ) {
+        if (!RequestDiagnostics.isEnabled()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        HttpRequestAttachment.Builder requestAttachment = HttpRequestAttachment.Builder
+                .create(REQUEST_ATTACHMENT_NAME, requestSpec.getURI())
+                .setMethod(requestSpec.getMethod())
+                .setHeaders(toMap(requestSpec.getHeaders()))
+                .setCookies(toMap(requestSpec.getCookies()));
+
+        if (requestSpec.getBody() != null) {
+            requestAttachment.setBody(truncate(new Prettifier().getPrettifiedBodyIfPossible(requestSpec)));
+        }
+
+        attach(REQUEST_ATTACHMENT_NAME, requestAttachment.build(), REQUEST_RENDERER);
+
+        Response response = ctx.next(requestSpec, responseSpec);
+
+        HttpResponseAttachment.Builder responseAttachment = HttpResponseAttachment.Builder
+                .create(response.getStatusLine())
+                .setResponseCode(response.getStatusCode())
+                .setHeaders(toMap(response.getHeaders()));
+        String body = response.getBody().asString();
+        boolean prettified = body.length() <= bodyMaxLength;
+        String attachedBody = prettified ? body : truncate(body);
+        String contentType = response.getContentType();
+
+        AllureAttachmentWriter.attach(
+                response.getStatusLine(),
+                ATTACHMENT_TYPE,
+                ATTACHMENT_FILE_EXTENSION,
+                () -> render(
+                        responseAttachment
+                                .setBody(prettified ? prettify(attachedBody, contentType) : attachedBody)
+                                .build(),
+                        RESPONSE_RENDERER
+                )
+        );
+
+        return response;
+    }
+
+    /**
+     * Filter runs just before {@link CassetteFilter}, so replayed exchanges are attached too
+     *
+     * @return order of filter
+     */
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 1;
+    }
+
+    /**
+     * Method that attaches request or response rendered by the writer thread
+     *
+     * @param name     name of attachment
+     * @param data     request or response
+     * @param renderer renderer of attachment
+     */
+    private static void attach(String name, AttachmentData data, FreemarkerAttachmentRenderer renderer) {
+        AllureAttachmentWriter.attach(name, ATTACHMENT_TYPE, ATTACHMENT_FILE_EXTENSION, () -> render(data, renderer));
+    }
+
+    /**
+     * Method that renders request or response to HTML
+     *
+     * @param data     request or response
+     * @param renderer renderer of attachment
+     * @return HTML in UTF-8
+     */
+    private static byte[] render(AttachmentData data, FreemarkerAttachmentRenderer renderer) {
+        return renderer.render(data).getContent().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Method that prettifies body (it is called by the writer thread for bodies which are not truncated)
+     *
+     * @param body        body as is
+     * @param contentType content type of body
+     * @return prettified body (truncated if prettifying made it too long)
+     */
+    private String prettify(String body, String contentType) {
+        return truncate(new Prettifier().prettify(body, Parser.fromContentType(contentType)));
+    }
+
+    /**
+     * Method that truncates body to max length
+     *
+     * @param body body
+     * @return body or its beginning with a note about length
+     */
+    private String truncate(String body) {
+        if (body == null || body.length() <= bodyMaxLength) {
+            return body;
+        }
+
+        return body.substring(0, bodyMaxLength) + System.lineSeparator()
+                + "... (truncated, " + body.length() + " characters in total)";
+    }
+
+    /**
+     * Method that converts headers or cookies to map
+     *
+     * @param values headers or cookies
+     * @return map of names and values
+     */
+    private static Map<String, String> toMap(Iterable<? extends NameAndValue> values) {
+        Map<String, String> map = new LinkedHashMap<>();
+
+        for (NameAndValue value : values) {
+            map.put(value.getName(), value.getValue());
+        }
+
+        return map;
+    }
+}
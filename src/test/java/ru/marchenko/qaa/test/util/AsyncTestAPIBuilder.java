@@ -0,0 +1,320 @@
+package ru.marchenko.qaa.test.util;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.response.ValidatableResponse;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.ResponseSpecification;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Class that builds REST API tests for GET requests without blocking of the calling thread.
+ * URI of request is resolved by RestAssured from the same request specification (with params),
+ * request is sent by non-blocking {@link HttpClient} and response is checked
+ * by the same response specification when it arrives.
+ * Requests are limited and retried by the same {@link RequestResilience} as requests of RestAssured,
+ * timings of requests are recorded to the report of the run as by {@link RequestTimingFilter}
+ * (unless diagnostics are disabled, see {@link RequestDiagnostics}) and responses are recorded to cassette
+ * or replayed from it as by {@link CassetteFilter}.
+ * Filters of request specification are not applied, so requests and responses are not attached to Allure report
+ * (responses arrive outside of the test thread)
+ */
+public class AsyncTestAPIBuilder {
+
+    /**
+     * Name of GET method
+     */
+    private final static String GET_METHOD = "GET";
+
+    /**
+     * Name of "Content-Type" header
+     */
+    private final static String CONTENT_TYPE_HEADER_NAME = "Content-Type";
+
+    /**
+     * Headers which are set by HTTP client itself and can't be set for request
+     */
+    private final static Set<String> RESTRICTED_HEADER_NAMES
+            = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    /**
+     * Name of "Retry-After" header
+     */
+    private final static String RETRY_AFTER_HEADER_NAME = "Retry-After";
+
+    /**
+     * Name of "Content-Encoding" header
+     */
+    private final static String CONTENT_ENCODING_HEADER_NAME = "Content-Encoding";
+
+    /**
+     * Count of nanoseconds in millisecond
+     */
+    private final static double NANOS_IN_MILLI = 1_000_000.0;
+
+    /**
+     * Non-blocking HTTP client
+     */
+    private final HttpClient httpClient;
+
+    /**
+     * Timeout of the whole request
+     */
+    private final Duration requestTimeout;
+
+    /**
+     * Executor for checking replayed responses
+     */
+    private final Executor executor;
+
+    /**
+     * Rate limit, retries and circuit breaker of requests (shared with RestAssured clients)
+     */
+    private final RequestResilience requestResilience;
+
+    /**
+     * Constructor of builder which uses default executor of HTTP client
+     */
+    public AsyncTestAPIBuilder() {
+        this(null);
+    }
+
+    /**
+     * Constructor of builder
+     *
+     * @param executor executor for sending requests and checking responses (null for default executor)
+     */
+    public AsyncTestAPIBuilder(Executor executor) {
+        ConnectionPoolConfig connectionPoolConfig = ConnectionPoolConfig.fromSystemProperties();
+        HttpClient.Builder httpClientBuilder = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectionPoolConfig.getConnectTimeoutMillis()))
+                .followRedirects(HttpClient.Redirect.NORMAL);
+
+        if (executor != null) {
+            httpClientBuilder.executor(executor);
+        }
+
+        this.httpClient = httpClientBuilder.build();
+        this.requestTimeout = Duration.ofMillis(connectionPoolConfig.getSocketTimeoutMillis());
+        this.executor = executor != null ? executor : ForkJoinPool.commonPool();
+        this.requestResilience = RequestResilience.of(ResilienceConfig.fromSystemProperties());
+    }
+
+    /**
+     * Method that builds tests for GET requests without params
+     *
+     * @param requestSpecification  specification for request
+     * @param responseSpecification specification for response
+     * @return future of validatable response (completes exceptionally if response doesn't match specification)
+     */
+    public CompletableFuture<ValidatableResponse> buildTestWithoutParams(
+            RequestSpecification requestSpecification,
+            ResponseSpecification responseSpecification
+    ) {
+        return send(given().spec(requestSpecification), responseSpecification);
+    }
+
+    /**
+     * Method that builds tests for GET requests with path params
+     *
+     * @param requestSpecification  specification for request
+     * @param responseSpecification specification for response
+     * @param pathParams            path params for request
+     * @return future of validatable response (completes exceptionally if response doesn't match specification)
+     */
+    public CompletableFuture<ValidatableResponse> buildTestWithPathParams(
+            RequestSpecification requestSpecification,
+            ResponseSpecification responseSpecification,
+            Map<String, Object> pathParams
+    ) {
+        return send(given().spec(requestSpecification).pathParams(pathParams), responseSpecification);
+    }
+
+    /**
+     * Method that builds tests for GET requests with params
+     *
+     * @param requestSpecification  specification for request
+     * @param responseSpecification specification for response
+     * @param params                params for request
+     * @return future of validatable response (completes exceptionally if response doesn't match specification)
+     */
+    public CompletableFuture<ValidatableResponse> buildTestWithParams(
+            RequestSpecification requestSpecification,
+            ResponseSpecification responseSpecification,
+            Map<String, Object> params
+    ) {
+        return send(given().spec(requestSpecification).params(params), responseSpecification);
+    }
+
+    /**
+     * Method that waits for all responses.
+     * If any response doesn't match its specification, assertion error is rethrown as is
+     * (so the test is reported as failed, not broken), but only after all requests are completed
+     *
+     * @param responses futures of validatable responses
+     * @return validatable responses in the same order
+     */
+    public static List<ValidatableResponse> awaitAll(List<CompletableFuture<ValidatableResponse>> responses) {
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture<?>[0]))
+                .exceptionally(throwable -> null)
+                .join();
+
+        List<ValidatableResponse> validatableResponses = new ArrayList<>(responses.size());
+
+        for (CompletableFuture<ValidatableResponse> response : responses) {
+            try {
+                validatableResponses.add(response.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof AssertionError) {
+                    throw (AssertionError) e.getCause();
+                }
+
+                throw e;
+            }
+        }
+
+        return validatableResponses;
+    }
+
+    /**
+     * Method that sends GET request (with rate limit and retries) and checks response when it arrives
+     *
+     * @param requestSpecification  specification for request with all params
+     * @param responseSpecification specification for response
+     * @return future of validatable response
+     */
+    private CompletableFuture<ValidatableResponse> send(
+            RequestSpecification requestSpecification,
+            ResponseSpecification responseSpecification
+    ) {
+        FilterableRequestSpecification filterableSpecification = (FilterableRequestSpecification) requestSpecification;
+        String uri = filterableSpecification.getURI();
+
+        if (CassetteFilter.isReplaying()) {
+            return CompletableFuture.supplyAsync(
+                    () -> CassetteFilter.replay(GET_METHOD, uri).then().spec(responseSpecification),
+                    executor
+            );
+        }
+
+        HttpRequest.Builder httpRequestBuilder = HttpRequest.newBuilder(URI.create(uri))
+                .timeout(requestTimeout)
+                .GET();
+
+        for (Header header : filterableSpecification.getHeaders()) {
+            if (!RESTRICTED_HEADER_NAMES.contains(header.getName().toLowerCase())) {
+                httpRequestBuilder.header(header.getName(), header.getValue());
+            }
+        }
+
+        if (filterableSpecification.getContentType() != null
+                && !filterableSpecification.getHeaders().hasHeaderWithName(CONTENT_TYPE_HEADER_NAME)) {
+            httpRequestBuilder.header(CONTENT_TYPE_HEADER_NAME, filterableSpecification.getContentType());
+        }
+
+        HttpRequest httpRequest = httpRequestBuilder.build();
+        String test = TimingRecorder.getCurrentTest();
+        String endpoint = RequestTimingFilter.toEndpoint(GET_METHOD, filterableSpecification);
+        Supplier<CompletableFuture<HttpResponse<byte[]>>> exchange = RequestDiagnostics.isEnabled()
+                ? () -> sendTimed(httpRequest, test, endpoint)
+                : () -> httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+
+        return requestResilience.executeAsync(
+                GET_METHOD,
+                exchange,
+                HttpResponse::statusCode,
+                httpResponse -> httpResponse.headers().firstValue(RETRY_AFTER_HEADER_NAME).orElse(null)
+        ).thenApply(httpResponse -> {
+            Response response = toResponse(httpResponse);
+            CassetteFilter.record(GET_METHOD, uri, response);
+            return response.then().spec(responseSpecification);
+        });
+    }
+
+    /**
+     * Method that sends one attempt of request and records its timing when the whole body is received.
+     * Time to first byte is the time of receiving of response headers
+     *
+     * @param httpRequest request
+     * @param test        name of test which sent request
+     * @param endpoint    endpoint of request (see {@link RequestTimingFilter})
+     * @return future of response
+     */
+    private CompletableFuture<HttpResponse<byte[]>> sendTimed(HttpRequest httpRequest, String test, String endpoint) {
+        long startedAt = System.currentTimeMillis();
+        long start = System.nanoTime();
+        long[] headersNanos = {-1};
+
+        return httpClient.sendAsync(httpRequest, responseInfo -> {
+            headersNanos[0] = System.nanoTime();
+            return HttpResponse.BodyHandlers.ofByteArray().apply(responseInfo);
+        }).thenApply(httpResponse -> {
+            long end = System.nanoTime();
+            int bodyBytes = httpResponse.body().length;
+            String contentEncoding = httpResponse.headers().firstValue(CONTENT_ENCODING_HEADER_NAME).orElse(null);
+
+            TimingRecorder.record(new RequestTiming(
+                    test,
+                    GET_METHOD,
+                    httpRequest.uri().toString(),
+                    endpoint,
+                    httpResponse.statusCode(),
+                    headersNanos[0] < 0 ? -1 : (headersNanos[0] - start) / NANOS_IN_MILLI,
+                    (end - start) / NANOS_IN_MILLI,
+                    0,
+                    bodyBytes,
+                    contentEncoding == null ? bodyBytes : -1,
+                    contentEncoding,
+                    startedAt
+            ));
+
+            return httpResponse;
+        });
+    }
+
+    /**
+     * Method that converts response of HTTP client to RestAssured response
+     *
+     * @param httpResponse response of HTTP client
+     * @return RestAssured response
+     */
+    private static Response toResponse(HttpResponse<byte[]> httpResponse) {
+        List<Header> headers = new ArrayList<>();
+
+        httpResponse.headers().map().forEach((name, values) -> {
+            for (String value : values) {
+                headers.add(new Header(name, value));
+            }
+        });
+
+        ResponseBuilder responseBuilder = new ResponseBuilder()
+                .setStatusCode(httpResponse.statusCode())
+                .setHeaders(new Headers(headers))
+                .setBody(httpResponse.body());
+
+        httpResponse.headers()
+                .firstValue(CONTENT_TYPE_HEADER_NAME)
+                .ifPresent(responseBuilder::setContentType);
+
+        return responseBuilder.build();
+    }
+}
@@ -0,0 +1,368 @@
+package ru.marchenko.qaa.test.util;
+
+import io.restassured.http.Header;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Store of recorded HTTP exchanges (cassette).
+ * Responses are indexed by method, path and sorted query params (host and port are ignored,
+ * so exchanges recorded against the stub server or the real API are interchangeable).
+ * File format (big-endian): magic number, count of entries, index of entries (key and offset of response)
+ * and responses (status code, status line, headers and body). Replayed file is memory-mapped,
+ * only its index is read to heap, responses are decoded from the mapping on lookup
+ */
+public class Cassette {
+
+    /**
+     * Magic number of cassette files ("CAS1")
+     */
+    private final static int MAGIC = 0x43415331;
+
+    /**
+     * Recorded responses by keys (for recording cassette)
+     */
+    private final Map<String, RecordedResponse> recorded = new ConcurrentHashMap<>();
+
+    /**
+     * Offsets of responses in the mapped file by keys (for replayed cassette)
+     */
+    private final Map<String, Integer> index;
+
+    /**
+     * Mapped file (for replayed cassette)
+     */
+    private final ByteBuffer mapping;
+
+    /**
+     * Constructor of empty cassette for recording
+     */
+    public Cassette() {
+        this(new HashMap<>(), null);
+    }
+
+    /**
+     * Constructor of cassette
+     *
+     * @param index   offsets of responses by keys
+     * @param mapping mapped file or null
+     */
+    private Cassette(Map<String, Integer> index, ByteBuffer mapping) {
+        this.index = index;
+        this.mapping = mapping;
+    }
+
+    /**
+     * Method that opens cassette file for replaying
+     *
+     * @param file cassette file
+     * @return cassette
+     * @throws IOException if file can't be read or it is not a cassette
+     */
+    public static Cassette open(Path file) throws IOException {
+        MappedByteBuffer mapping;
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (mapping.remaining() < Integer.BYTES * 2 || mapping.getInt() != MAGIC) {
+            throw new IOException(file + " is not a cassette file");
+        }
+
+        int count = mapping.getInt();
+        Map<String, Integer> index = new HashMap<>(count * 4 / 3 + 1);
+
+        for (int i = 0; i < count; i++) {
+            index.put(readString(mapping), mapping.getInt());
+        }
+
+        return new Cassette(index, mapping);
+    }
+
+    /**
+     * Method that builds key of request
+     *
+     * @param method HTTP method
+     * @param uri    full URI of request
+     * @return method, path and query params sorted by names and values
+     */
+    public static String key(String method, String uri) {
+        URI parsedUri = URI.create(uri);
+        String path = parsedUri.getRawPath() == null || parsedUri.getRawPath().isEmpty() ? "/" : parsedUri.getRawPath();
+        String query = parsedUri.getRawQuery();
+
+        if (query == null || query.isEmpty()) {
+            return method + " " + path;
+        }
+
+        String[] params = query.split("&");
+        Arrays.sort(params);
+
+        return method + " " + path + "?" + String.join("&", params);
+    }
+
+    /**
+     * Method that adds response to recording cassette (response of the same request is replaced)
+     *
+     * @param key      key of request
+     * @param response response
+     */
+    public void record(String key, RecordedResponse response) {
+        recorded.put(key, response);
+    }
+
+    /**
+     * Method that finds recorded response
+     *
+     * @param key key of request
+     * @return response or null if request was not recorded
+     */
+    public RecordedResponse find(String key) {
+        RecordedResponse response = recorded.get(key);
+
+        if (response != null || mapping == null) {
+            return response;
+        }
+
+        Integer offset = index.get(key);
+        return offset == null ? null : readResponse(mapping.duplicate().position(offset));
+    }
+
+    /**
+     * Method that returns count of responses
+     *
+     * @return count of recorded and mapped responses
+     */
+    public int size() {
+        return recorded.size() + index.size();
+    }
+
+    /**
+     * Method that writes recorded responses to cassette file
+     *
+     * @param file cassette file (parent directories are created if needed)
+     * @throws IOException if file can't be written
+     */
+    public void write(Path file) throws IOException {
+        Map<String, RecordedResponse> responses = new TreeMap<>(recorded);
+        List<byte[]> encodedKeys = new ArrayList<>(responses.size());
+        int indexLength = 0;
+
+        for (String key : responses.keySet()) {
+            byte[] encodedKey = key.getBytes(StandardCharsets.UTF_8);
+            encodedKeys.add(encodedKey);
+            indexLength += Integer.BYTES + encodedKey.length + Integer.BYTES;
+        }
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(responses.size());
+
+            int offset = Integer.BYTES * 2 + indexLength;
+            int position = 0;
+
+            for (RecordedResponse response : responses.values()) {
+                byte[] encodedKey = encodedKeys.get(position++);
+                output.writeInt(encodedKey.length);
+                output.write(encodedKey);
+                output.writeInt(offset);
+                offset += response.getEncodedLength();
+            }
+
+            for (RecordedResponse response : responses.values()) {
+                response.writeTo(output);
+            }
+        }
+    }
+
+    /**
+     * Method that decodes response
+     *
+     * @param buffer buffer positioned at the response
+     * @return response
+     */
+    private static RecordedResponse readResponse(ByteBuffer buffer) {
+        int statusCode = buffer.getInt();
+        String statusLine = readString(buffer);
+        int headersCount = buffer.getInt();
+        List<Header> headers = new ArrayList<>(headersCount);
+
+        for (int i = 0; i < headersCount; i++) {
+            headers.add(new Header(readString(buffer), readString(buffer)));
+        }
+
+        byte[] body = new byte[buffer.getInt()];
+        buffer.get(body);
+
+        return new RecordedResponse(statusCode, statusLine, headers, body);
+    }
+
+    /**
+     * Method that decodes UTF-8 string prefixed by its length
+     *
+     * @param buffer buffer positioned at the string
+     * @return string
+     */
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Recorded response
+     */
+    public static class RecordedResponse {
+
+        /**
+         * Status code
+         */
+        private final int statusCode;
+
+        /**
+         * Status line
+         */
+        private final String statusLine;
+
+        /**
+         * Headers
+         */
+        private final List<Header> headers;
+
+        /**
+         * Body (decoded)
+         */
+        private final byte[] body;
+
+        /**
+         * Constructor of response
+         *
+         * @param statusCode status code
+         * @param statusLine status line
+         * @param headers    headers
+         * @param body       body (decoded)
+         */
+        public RecordedResponse(int statusCode, String statusLine, List<Header> headers, byte[] body) {
+            this.statusCode = statusCode;
+            this.statusLine = statusLine;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        /**
+         * Getter for status code
+         *
+         * @return status code
+         */
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        /**
+         * Getter for status line
+         *
+         * @return status line
+         */
+        public String getStatusLine() {
+            return statusLine;
+        }
+
+        /**
+         * Getter for headers
+         *
+         * @return headers
+         */
+        public List<Header> getHeaders() {
+            return headers;
+        }
+
+        /**
+         * Getter for body
+         *
+         * @return body (decoded)
+         */
+        public byte[] getBody() {
+            return body;
+        }
+
+        /**
+         * Method that returns size of encoded response
+         *
+         * @return size in bytes
+         */
+        private int getEncodedLength() {
+            int length = Integer.BYTES + encodedLength(statusLine) + Integer.BYTES;
+
+            for (Header header : headers) {
+                length += encodedLength(header.getName()) + encodedLength(header.getValue());
+            }
+
+            return length + Integer.BYTES + body.length;
+        }
+
+        /**
+         * Method that encodes response
+         *
+         * @param output output of cassette file
+         * @throws IOException if response can't be written
+         */
+        private void writeTo(DataOutputStream output) throws IOException {
+            output.writeInt(statusCode);
+            writeString(output, statusLine);
+            output.writeInt(headers.size());
+
+            for (Header header : headers) {
+                writeString(output, header.getName());
+                writeString(output, header.getValue());
+            }
+
+            output.writeInt(body.length);
+            output.write(body);
+        }
+
+        /**
+         * Method that returns size of encoded string
+         *
+         * @param value string
+         * @return size in bytes (with length prefix)
+         */
+        private static int encodedLength(String value) {
+            return Integer.BYTES + value.getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        /**
+         * Method that encodes UTF-8 string prefixed by its length
+         *
+         * @param output output of cassette file
+         * @param value  string
+         * @throws IOException if string can't be written
+         */
+        private static void writeString(DataOutputStream output, String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+    }
+}
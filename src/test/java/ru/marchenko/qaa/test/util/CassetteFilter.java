@@ -0,0 +1,222 @@
+package ru.marchenko.qaa.test.util;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Filter that records exchanges to {@link Cassette} or replays them from cassette file instead of the network.
+ * Mode is set by "api.cassette.mode" property ("record", "replay" or "off"), file is set by "api.cassette.file".
+ * Recorded cassette is written when the test plan is finished (see {@link CassetteListener}).
+ * Filter runs the last, so other filters (Allure, timings, logs) see replayed responses as real ones
+ */
+public class CassetteFilter implements OrderedFilter {
+
+    /**
+     * Name of property with mode of cassette
+     */
+    public final static String MODE_PROPERTY = "api.cassette.mode";
+
+    /**
+     * Name of property with cassette file
+     */
+    public final static String FILE_PROPERTY = "api.cassette.file";
+
+    /**
+     * Mode which records exchanges
+     */
+    private final static String RECORD_MODE = "record";
+
+    /**
+     * Mode which replays exchanges
+     */
+    private final static String REPLAY_MODE = "replay";
+
+    /**
+     * Default cassette file
+     */
+    private final static String DEFAULT_FILE = "src/test/cassettes/posts.cassette";
+
+    /**
+     * Headers which describe encoding on the wire and are not valid for decoded recorded body
+     */
+    private final static Set<String> WIRE_HEADER_NAMES = Set.of("content-encoding", "content-length", "transfer-encoding");
+
+    /**
+     * Mode of cassette
+     */
+    private final static String MODE = TestProperties.getString(MODE_PROPERTY, "off").toLowerCase();
+
+    /**
+     * Cassette of the run (null if mode is off)
+     */
+    private final static Cassette CASSETTE = createCassette();
+
+    @Override
+    public Response filter(
+            FilterableRequestSpecification requestSpec,
+            FilterableResponseSpecification responseSpec,
+            FilterContext ctx
+    ) {
+        if (CASSETTE == null) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        if (isReplaying()) {
+            return replay(requestSpec.getMethod(), requestSpec.getURI());
+        }
+
+        Response response = ctx.next(requestSpec, responseSpec);
+        record(requestSpec.getMethod(), requestSpec.getURI(), response);
+
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+
+    /**
+     * Method that checks whether responses are replayed from cassette
+     *
+     * @return true if replay mode is set
+     */
+    public static boolean isReplaying() {
+        return REPLAY_MODE.equals(MODE);
+    }
+
+    /**
+     * Method that returns recorded response of request (for clients which don't run filters)
+     *
+     * @param method HTTP method
+     * @param uri    full URI of request
+     * @return RestAssured response
+     * @throws IllegalStateException if replay mode is not set or request was not recorded
+     */
+    public static Response replay(String method, String uri) {
+        if (!isReplaying()) {
+            throw new IllegalStateException("Replay mode of cassette is not set");
+        }
+
+        String key = Cassette.key(method, uri);
+        Cassette.RecordedResponse recordedResponse = CASSETTE.find(key);
+
+        if (recordedResponse == null) {
+            throw new IllegalStateException("Cassette " + getFile() + " has no response for " + key);
+        }
+
+        return toResponse(recordedResponse);
+    }
+
+    /**
+     * Method that records response of request (it does nothing if record mode is not set)
+     *
+     * @param method   HTTP method
+     * @param uri      full URI of request
+     * @param response response
+     */
+    public static void record(String method, String uri, Response response) {
+        if (RECORD_MODE.equals(MODE)) {
+            CASSETTE.record(Cassette.key(method, uri), toRecordedResponse(response));
+        }
+    }
+
+    /**
+     * Method that writes recorded cassette to file (it does nothing if record mode is not set)
+     *
+     * @throws IOException if cassette can't be written
+     */
+    public static void writeRecording() throws IOException {
+        if (RECORD_MODE.equals(MODE)) {
+            CASSETTE.write(getFile());
+        }
+    }
+
+    /**
+     * Method that returns cassette file
+     *
+     * @return path to cassette file
+     */
+    private static Path getFile() {
+        return Paths.get(TestProperties.getString(FILE_PROPERTY, DEFAULT_FILE));
+    }
+
+    /**
+     * Method that creates cassette for mode of the run
+     *
+     * @return empty cassette for recording, mapped cassette for replaying or null
+     */
+    private static Cassette createCassette() {
+        if (RECORD_MODE.equals(MODE)) {
+            return new Cassette();
+        }
+
+        if (!REPLAY_MODE.equals(MODE)) {
+            return null;
+        }
+
+        try {
+            return Cassette.open(getFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't open cassette " + getFile(), e);
+        }
+    }
+
+    /**
+     * Method that converts response to recorded response
+     *
+     * @param response response
+     * @return recorded response
+     */
+    private static Cassette.RecordedResponse toRecordedResponse(Response response) {
+        List<Header> headers = new ArrayList<>();
+
+        for (Header header : response.getHeaders()) {
+            if (!WIRE_HEADER_NAMES.contains(header.getName().toLowerCase())) {
+                headers.add(header);
+            }
+        }
+
+        return new Cassette.RecordedResponse(
+                response.getStatusCode(),
+                response.getStatusLine(),
+                headers,
+                response.asByteArray()
+        );
+    }
+
+    /**
+     * Method that converts recorded response to RestAssured response
+     *
+     * @param recordedResponse recorded response
+     * @return RestAssured response
+     */
+    private static Response toResponse(Cassette.RecordedResponse recordedResponse) {
+        Headers headers = new Headers(recordedResponse.getHeaders());
+        ResponseBuilder responseBuilder = new ResponseBuilder()
+                .setStatusCode(recordedResponse.getStatusCode())
+                .setStatusLine(recordedResponse.getStatusLine())
+                .setHeaders(headers)
+                .setBody(recordedResponse.getBody());
+
+        if (headers.hasHeaderWithName("Content-Type")) {
+            responseBuilder.setContentType(headers.getValue("Content-Type"));
+        }
+
+        return responseBuilder.build();
+    }
+}
@@ -0,0 +1,23 @@
+package ru.marchenko.qaa.test.util;
+
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Listener that writes cassette recorded by {@link CassetteFilter} when the test plan is finished.
+ * It is registered in META-INF/services
+ */
+public class CassetteListener implements TestExecutionListener {
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        try {
+            CassetteFilter.writeRecording();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't write cassette", e);
+        }
+    }
+}
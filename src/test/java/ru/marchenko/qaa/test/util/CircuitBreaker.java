@@ -0,0 +1,162 @@
+package ru.marchenko.qaa.test.util;
+
+/**
+ * Circuit breaker that fails requests fast when too many of the last requests failed.
+ * After the circuit is opened, requests fail without being sent for the configured time,
+ * then one trial request is let through: the circuit is closed if it succeeds and is opened again otherwise
+ */
+public class CircuitBreaker {
+
+    /**
+     * States of circuit
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * Rate of failed requests which opens circuit
+     */
+    private final double failureRate;
+
+    /**
+     * Time of failing fast after circuit is opened (in nanoseconds)
+     */
+    private final long openNanos;
+
+    /**
+     * Results of the last requests (true if request failed), it is used as a ring buffer
+     */
+    private final boolean[] window;
+
+    /**
+     * Count of results in window
+     */
+    private int recorded;
+
+    /**
+     * Count of failures in window
+     */
+    private int failures;
+
+    /**
+     * Position of the next result in window
+     */
+    private int position;
+
+    /**
+     * State of circuit
+     */
+    private State state = State.CLOSED;
+
+    /**
+     * Time when circuit was opened (in nanoseconds)
+     */
+    private long openedAt;
+
+    /**
+     * Flag of trial request being sent in half-open state
+     */
+    private boolean trialInFlight;
+
+    /**
+     * Constructor of circuit breaker
+     *
+     * @param failureRate rate of failed requests which opens circuit
+     * @param window      count of the last requests which failure rate is computed on
+     * @param openMillis  time of failing fast after circuit is opened (in milliseconds)
+     */
+    public CircuitBreaker(double failureRate, int window, long openMillis) {
+        if (failureRate <= 0 || failureRate > 1 || window < 1) {
+            throw new IllegalArgumentException("Failure rate should be in (0, 1], window should be positive");
+        }
+
+        this.failureRate = failureRate;
+        this.window = new boolean[window];
+        this.openNanos = openMillis * 1_000_000;
+    }
+
+    /**
+     * Method that checks that request may be sent
+     *
+     * @throws IllegalStateException if circuit is open
+     */
+    public synchronized void acquire() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+
+        if (state == State.OPEN || state == State.HALF_OPEN && trialInFlight) {
+            throw new IllegalStateException(String.format(
+                    "Circuit is open: %d of the last %d requests failed, requests are not sent for %d ms",
+                    failures,
+                    recorded,
+                    openNanos / 1_000_000
+            ));
+        }
+
+        if (state == State.HALF_OPEN) {
+            trialInFlight = true;
+        }
+    }
+
+    /**
+     * Method that records result of request
+     *
+     * @param failed true if request failed
+     */
+    public synchronized void record(boolean failed) {
+        if (state == State.HALF_OPEN) {
+            if (failed) {
+                open();
+            } else {
+                reset();
+            }
+
+            return;
+        }
+
+        if (recorded == window.length) {
+            failures -= window[position] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+
+        window[position] = failed;
+        failures += failed ? 1 : 0;
+        position = (position + 1) % window.length;
+
+        if (state == State.CLOSED && recorded == window.length && failures >= failureRate * window.length) {
+            open();
+        }
+    }
+
+    /**
+     * Getter for state of circuit
+     *
+     * @return state
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Method that opens circuit
+     */
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+    }
+
+    /**
+     * Method that closes circuit and forgets previous results
+     */
+    private void reset() {
+        state = State.CLOSED;
+        trialInFlight = false;
+        recorded = 0;
+        failures = 0;
+        position = 0;
+    }
+}
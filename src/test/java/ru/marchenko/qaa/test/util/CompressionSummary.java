@@ -0,0 +1,103 @@
+package ru.marchenko.qaa.test.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Sizes of response bodies on the wire and decoded, summed by endpoints, and their compression ratio.
+ * Only sums are kept, so the summary doesn't grow with count of requests.
+ * Requests without known sizes (like replayed ones) are skipped
+ */
+final class CompressionSummary {
+
+    /**
+     * Header of CSV file
+     */
+    private final static String CSV_HEADER
+            = "endpoint,requests,contentEncodings,responseBytes,decodedResponseBytes,compressionRatio";
+
+    /**
+     * Sums of sizes by endpoints
+     */
+    private final Map<String, EndpointSizes> sizesByEndpoint = new TreeMap<>();
+
+    /**
+     * Method that adds sizes of response to its endpoint
+     *
+     * @param timing timing of request
+     */
+    synchronized void add(RequestTiming timing) {
+        if (timing.getResponseBytes() < 0 || timing.getDecodedResponseBytes() < 0) {
+            return;
+        }
+
+        EndpointSizes sizes = sizesByEndpoint.computeIfAbsent(timing.getEndpoint(), endpoint -> new EndpointSizes());
+        sizes.requests++;
+        sizes.responseBytes += timing.getResponseBytes();
+        sizes.decodedResponseBytes += timing.getDecodedResponseBytes();
+        sizes.contentEncodings.add(timing.getContentEncoding() == null ? "identity" : timing.getContentEncoding());
+    }
+
+    /**
+     * Method that writes summary
+     *
+     * @param file CSV file
+     * @throws IOException if summary can't be written
+     */
+    synchronized void write(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(CSV_HEADER);
+            writer.newLine();
+
+            for (Map.Entry<String, EndpointSizes> endpoint : sizesByEndpoint.entrySet()) {
+                EndpointSizes sizes = endpoint.getValue();
+
+                writer.write(String.format(
+                        Locale.ROOT,
+                        "\"%s\",%d,%s,%d,%d,%.3f",
+                        endpoint.getKey().replace("\"", "\"\""),
+                        sizes.requests,
+                        String.join("|", sizes.contentEncodings),
+                        sizes.responseBytes,
+                        sizes.decodedResponseBytes,
+                        sizes.responseBytes == 0 ? 1.0 : (double) sizes.decodedResponseBytes / sizes.responseBytes
+                ));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Sums of sizes of responses of endpoint
+     */
+    private static class EndpointSizes {
+
+        /**
+         * Count of requests
+         */
+        long requests;
+
+        /**
+         * Size of response bodies on the wire
+         */
+        long responseBytes;
+
+        /**
+         * Size of decoded response bodies
+         */
+        long decodedResponseBytes;
+
+        /**
+         * Content encodings of responses ("identity" if response is not encoded)
+         */
+        final Set<String> contentEncodings = new TreeSet<>();
+    }
+}
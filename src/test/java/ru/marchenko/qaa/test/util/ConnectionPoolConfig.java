@@ -0,0 +1,200 @@
+package ru.marchenko.qaa.test.util;
+
+import java.util.Objects;
+
+/**
+ * Class that keeps settings of pooled HTTP connections and content encodings accepted through them
+ */
+public final class ConnectionPoolConfig {
+
+    /**
+     * Name of property with max count of connections in pool
+     */
+    public final static String MAX_TOTAL_PROPERTY = "api.http.pool.max.total";
+
+    /**
+     * Name of property with max count of connections to one route (host and port)
+     */
+    public final static String MAX_PER_ROUTE_PROPERTY = "api.http.pool.max.per.route";
+
+    /**
+     * Name of property with time of keeping idle connection alive (in milliseconds)
+     */
+    public final static String KEEP_ALIVE_PROPERTY = "api.http.keep.alive.millis";
+
+    /**
+     * Name of property with socket read timeout (in milliseconds)
+     */
+    public final static String SOCKET_TIMEOUT_PROPERTY = "api.http.socket.timeout.millis";
+
+    /**
+     * Name of property with connect timeout (in milliseconds)
+     */
+    public final static String CONNECT_TIMEOUT_PROPERTY = "api.http.connect.timeout.millis";
+
+    /**
+     * Name of property with content encodings accepted from the server (value of Accept-Encoding header)
+     */
+    public final static String ACCEPT_ENCODING_PROPERTY = "api.http.accept.encoding";
+
+    /**
+     * Default max count of connections in pool
+     */
+    private final static int DEFAULT_MAX_TOTAL = 64;
+
+    /**
+     * Default max count of connections to one route
+     */
+    private final static int DEFAULT_MAX_PER_ROUTE = 32;
+
+    /**
+     * Default time of keeping idle connection alive
+     */
+    private final static long DEFAULT_KEEP_ALIVE_MILLIS = 30_000;
+
+    /**
+     * Default socket read timeout
+     */
+    private final static int DEFAULT_SOCKET_TIMEOUT_MILLIS = 30_000;
+
+    /**
+     * Default connect timeout
+     */
+    private final static int DEFAULT_CONNECT_TIMEOUT_MILLIS = 10_000;
+
+    /**
+     * Default content encodings accepted from the server (all encodings which are decoded by the client)
+     */
+    private final static String DEFAULT_ACCEPT_ENCODING = "br, gzip, deflate";
+
+    /**
+     * Max count of connections in pool
+     */
+    private final int maxTotal;
+
+    /**
+     * Max count of connections to one route
+     */
+    private final int maxPerRoute;
+
+    /**
+     * Time of keeping idle connection alive (in milliseconds)
+     */
+    private final long keepAliveMillis;
+
+    /**
+     * Socket read timeout (in milliseconds)
+     */
+    private final int socketTimeoutMillis;
+
+    /**
+     * Connect timeout (in milliseconds)
+     */
+    private final int connectTimeoutMillis;
+
+    /**
+     * Content encodings accepted from the server, like "gzip;q=1.0, deflate;q=0.5" ("identity" disables compression)
+     */
+    private final String acceptEncoding;
+
+    public ConnectionPoolConfig(
+            int maxTotal,
+            int maxPerRoute,
+            long keepAliveMillis,
+            int socketTimeoutMillis,
+            int connectTimeoutMillis,
+            String acceptEncoding
+    ) {
+        if (maxTotal < 1 || maxPerRoute < 1) {
+            throw new IllegalArgumentException("Pool size should be positive");
+        }
+
+        this.maxTotal = maxTotal;
+        this.maxPerRoute = Math.min(maxPerRoute, maxTotal);
+        this.keepAliveMillis = keepAliveMillis;
+        this.socketTimeoutMillis = socketTimeoutMillis;
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.acceptEncoding = acceptEncoding;
+    }
+
+    /**
+     * Method that builds config with default settings overridden by system properties
+     *
+     * @return config of connection pool
+     */
+    public static ConnectionPoolConfig fromSystemProperties() {
+        return new ConnectionPoolConfig(
+                TestProperties.getInt(MAX_TOTAL_PROPERTY, DEFAULT_MAX_TOTAL),
+                TestProperties.getInt(MAX_PER_ROUTE_PROPERTY, DEFAULT_MAX_PER_ROUTE),
+                TestProperties.getLong(KEEP_ALIVE_PROPERTY, DEFAULT_KEEP_ALIVE_MILLIS),
+                TestProperties.getInt(SOCKET_TIMEOUT_PROPERTY, DEFAULT_SOCKET_TIMEOUT_MILLIS),
+                TestProperties.getInt(CONNECT_TIMEOUT_PROPERTY, DEFAULT_CONNECT_TIMEOUT_MILLIS),
+                TestProperties.getString(ACCEPT_ENCODING_PROPERTY, DEFAULT_ACCEPT_ENCODING)
+        );
+    }
+
+    public int getMaxTotal() {
+        return maxTotal;
+    }
+
+    public int getMaxPerRoute() {
+        return maxPerRoute;
+    }
+
+    public long getKeepAliveMillis() {
+        return keepAliveMillis;
+    }
+
+    public int getSocketTimeoutMillis() {
+        return socketTimeoutMillis;
+    }
+
+    public int getConnectTimeoutMillis() {
+        return connectTimeoutMillis;
+    }
+
+    public String getAcceptEncoding() {
+        return acceptEncoding;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ConnectionPoolConfig that = (ConnectionPoolConfig) o;
+        return maxTotal == that.maxTotal
+                && maxPerRoute == that.maxPerRoute
+                && keepAliveMillis == that.keepAliveMillis
+                && socketTimeoutMillis == that.socketTimeoutMillis
+                && connectTimeoutMillis == that.connectTimeoutMillis
+                && Objects.equals(acceptEncoding, that.acceptEncoding);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+                maxTotal,
+                maxPerRoute,
+                keepAliveMillis,
+                socketTimeoutMillis,
+                connectTimeoutMillis,
+                acceptEncoding
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolConfig{maxTotal=" + maxTotal
+                + ", maxPerRoute=" + maxPerRoute
+                + ", keepAliveMillis=" + keepAliveMillis
+                + ", socketTimeoutMillis=" + socketTimeoutMillis
+                + ", connectTimeoutMillis=" + connectTimeoutMillis
+                + ", acceptEncoding=" + acceptEncoding + "}";
+    }
+}
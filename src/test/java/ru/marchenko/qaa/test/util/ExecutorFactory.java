@@ -0,0 +1,106 @@
+package ru.marchenko.qaa.test.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Factory of executors for concurrent API calls.
+ * If "api.virtual.threads.enabled" property is set and JVM supports virtual threads (JDK 21+, see "jdk21" profile),
+ * every task runs in its own virtual thread, otherwise tasks run in a pool of platform daemon threads.
+ * Virtual threads are created by reflection, so the code is still compiled for Java 11
+ */
+public final class ExecutorFactory {
+
+    /**
+     * Name of property that enables virtual threads
+     */
+    public final static String VIRTUAL_THREADS_ENABLED_PROPERTY = "api.virtual.threads.enabled";
+
+    /**
+     * Name of builder interface of threads (JDK 21+)
+     */
+    private final static String THREAD_BUILDER_CLASS_NAME = "java.lang.Thread$Builder";
+
+    private ExecutorFactory() {
+    }
+
+    /**
+     * Method that checks whether tasks will run in virtual threads
+     *
+     * @return true if virtual threads are enabled and supported by JVM
+     */
+    public static boolean isVirtualThreadsEnabled() {
+        return TestProperties.getBoolean(VIRTUAL_THREADS_ENABLED_PROPERTY, false) && isVirtualThreadsSupported();
+    }
+
+    /**
+     * Method that checks whether JVM supports virtual threads
+     *
+     * @return true if virtual threads are supported
+     */
+    public static boolean isVirtualThreadsSupported() {
+        try {
+            Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Method that creates executor for concurrent tasks
+     *
+     * @param namePrefix      prefix of names of threads
+     * @param platformThreads count of platform threads (it is ignored for virtual threads, which are not pooled)
+     * @return executor
+     */
+    public static ExecutorService newExecutor(String namePrefix, int platformThreads) {
+        return isVirtualThreadsEnabled()
+                ? newVirtualThreadPerTaskExecutor(namePrefix)
+                : Executors.newFixedThreadPool(platformThreads, newPlatformThreadFactory(namePrefix));
+    }
+
+    /**
+     * Method that creates factory of named platform daemon threads
+     *
+     * @param namePrefix prefix of names of threads
+     * @return thread factory
+     */
+    private static ThreadFactory newPlatformThreadFactory(String namePrefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Method that creates executor which starts new named virtual thread for every task
+     * (like {@code Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(namePrefix, 1).factory())})
+     *
+     * @param namePrefix prefix of names of threads
+     * @return executor
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor(String namePrefix) {
+        try {
+            Class<?> threadBuilderClass = Class.forName(THREAD_BUILDER_CLASS_NAME);
+            Object threadBuilder = Thread.class.getMethod("ofVirtual").invoke(null);
+            threadBuilder = threadBuilderClass.getMethod("name", String.class, long.class)
+                    .invoke(threadBuilder, namePrefix, 1L);
+            ThreadFactory threadFactory = (ThreadFactory) threadBuilderClass.getMethod("factory").invoke(threadBuilder);
+
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threadFactory);
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("Virtual threads are not supported by this JVM", e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Can't create executor of virtual threads", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package ru.marchenko.qaa.test.util;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Generator of random inputs for property-based tests (see {@link FuzzRunner} and {@link FuzzGenerators})
+ *
+ * @param <T> type of inputs
+ */
+@FunctionalInterface
+public interface FuzzGenerator<T> {
+
+    /**
+     * Method that generates input
+     *
+     * @param random source of randomness (seeded, so inputs are reproducible)
+     * @return input
+     */
+    T generate(Random random);
+
+    /**
+     * Method that returns simpler inputs which are tried when the input fails the property
+     *
+     * @param value failed input
+     * @return simpler inputs (from the simplest one) or empty list if the input can't be simplified
+     */
+    default List<T> shrink(T value) {
+        return List.of();
+    }
+
+    /**
+     * Method that creates generator of inputs which satisfy the predicate (shrunk inputs satisfy it too)
+     *
+     * @param predicate predicate of valid inputs
+     * @return generator
+     */
+    default FuzzGenerator<T> filter(Predicate<? super T> predicate) {
+        FuzzGenerator<T> generator = this;
+
+        return new FuzzGenerator<>() {
+            @Override
+            public T generate(Random random) {
+                T value = generator.generate(random);
+
+                while (!predicate.test(value)) {
+                    value = generator.generate(random);
+                }
+
+                return value;
+            }
+
+            @Override
+            public List<T> shrink(T value) {
+                return generator.shrink(value).stream().filter(predicate).collect(Collectors.toList());
+            }
+        };
+    }
+}
@@ -0,0 +1,155 @@
+package ru.marchenko.qaa.test.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Factory of generators of request params.
+ * Values of params are shrunk by their type: integers towards 0, strings towards shorter ones,
+ * maps of params towards fewer params
+ */
+public final class FuzzGenerators {
+
+    private FuzzGenerators() {
+    }
+
+    /**
+     * Method that creates generator of integers
+     *
+     * @param min min value (inclusive)
+     * @param max max value (inclusive)
+     * @return generator
+     */
+    public static FuzzGenerator<Object> integers(int min, int max) {
+        long bound = (long) max - min + 1;
+        return random -> (int) (min + Math.floorMod(random.nextLong(), bound));
+    }
+
+    /**
+     * Method that creates generator of strings
+     *
+     * @param alphabet  characters of strings
+     * @param maxLength max length of strings
+     * @return generator
+     */
+    public static FuzzGenerator<Object> strings(String alphabet, int maxLength) {
+        return random -> {
+            char[] chars = new char[random.nextInt(maxLength + 1)];
+
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = alphabet.charAt(random.nextInt(alphabet.length()));
+            }
+
+            return new String(chars);
+        };
+    }
+
+    /**
+     * Method that creates generator which picks one of the given values
+     *
+     * @param values values
+     * @return generator
+     */
+    public static FuzzGenerator<Object> elements(List<?> values) {
+        return random -> values.get(random.nextInt(values.size()));
+    }
+
+    /**
+     * Method that creates generator which uses one of the given generators
+     *
+     * @param generators generators (they are picked with equal probability)
+     * @return generator
+     */
+    @SafeVarargs
+    public static FuzzGenerator<Object> oneOf(FuzzGenerator<Object>... generators) {
+        return random -> generators[random.nextInt(generators.length)].generate(random);
+    }
+
+    /**
+     * Method that creates generator of request params.
+     * Every map contains a random non-empty subset of params in order of the given map
+     *
+     * @param valueGenerators generators of values by names of params
+     * @return generator
+     */
+    public static FuzzGenerator<Map<String, Object>> params(Map<String, FuzzGenerator<Object>> valueGenerators) {
+        List<String> names = new ArrayList<>(valueGenerators.keySet());
+
+        return new FuzzGenerator<>() {
+            @Override
+            public Map<String, Object> generate(Random random) {
+                Map<String, Object> params = new LinkedHashMap<>();
+
+                while (params.isEmpty()) {
+                    for (String name : names) {
+                        if (random.nextBoolean()) {
+                            params.put(name, valueGenerators.get(name).generate(random));
+                        }
+                    }
+                }
+
+                return params;
+            }
+
+            @Override
+            public List<Map<String, Object>> shrink(Map<String, Object> value) {
+                List<Map<String, Object>> candidates = new ArrayList<>();
+
+                if (value.size() > 1) {
+                    for (String name : value.keySet()) {
+                        Map<String, Object> candidate = new LinkedHashMap<>(value);
+                        candidate.remove(name);
+                        candidates.add(candidate);
+                    }
+                }
+
+                for (Map.Entry<String, Object> param : value.entrySet()) {
+                    for (Object simplerValue : shrinkValue(param.getValue())) {
+                        Map<String, Object> candidate = new LinkedHashMap<>(value);
+                        candidate.put(param.getKey(), simplerValue);
+                        candidates.add(candidate);
+                    }
+                }
+
+                return candidates;
+            }
+        };
+    }
+
+    /**
+     * Method that returns simpler values of param
+     *
+     * @param value value of param
+     * @return simpler values (without the value itself)
+     */
+    private static List<Object> shrinkValue(Object value) {
+        Set<Object> candidates = new LinkedHashSet<>();
+
+        if (value instanceof Integer) {
+            int number = (Integer) value;
+
+            if (number != 0) {
+                candidates.add(0);
+                candidates.add(number / 2);
+                candidates.add(number > 0 ? number - 1 : number + 1);
+            }
+        } else if (value instanceof String) {
+            String string = (String) value;
+
+            if (!string.isEmpty()) {
+                candidates.add("");
+                candidates.add(string.substring(0, string.length() / 2));
+                candidates.add(string.substring(1));
+                candidates.add(string.substring(0, string.length() - 1));
+            }
+        }
+
+        candidates.remove(value);
+        return new ArrayList<>(candidates);
+    }
+}
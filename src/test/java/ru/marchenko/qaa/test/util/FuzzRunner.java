@@ -0,0 +1,221 @@
+package ru.marchenko.qaa.test.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Class that checks property (like call of {@link TestAPIBuilder}) on many generated inputs concurrently.
+ * Input of every case is generated from its own seed (seed of the run plus number of the case),
+ * so failed case can be reproduced by seed of the run. The first failed input is shrunk
+ * to the simplest input which still fails
+ */
+public class FuzzRunner {
+
+    /**
+     * Name of property with count of cases
+     */
+    public final static String CASES_PROPERTY = "api.fuzz.cases";
+
+    /**
+     * Name of property with count of workers
+     */
+    public final static String CONCURRENCY_PROPERTY = "api.fuzz.concurrency";
+
+    /**
+     * Name of property with seed of the run (random if it is not set)
+     */
+    public final static String SEED_PROPERTY = "api.fuzz.seed";
+
+    /**
+     * Default count of cases
+     */
+    private final static int DEFAULT_CASES = 1000;
+
+    /**
+     * Default count of workers
+     */
+    private final static int DEFAULT_CONCURRENCY = 8;
+
+    /**
+     * Max count of shrinking steps
+     */
+    private final static int MAX_SHRINK_STEPS = 1000;
+
+    /**
+     * Multiplier which spreads seeds of cases (golden ratio)
+     */
+    private final static long SEED_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Count of cases
+     */
+    private final int cases;
+
+    /**
+     * Count of workers
+     */
+    private final int concurrency;
+
+    /**
+     * Seed of the run
+     */
+    private final long seed;
+
+    /**
+     * Constructor of runner
+     *
+     * @param cases       count of cases
+     * @param concurrency count of workers
+     * @param seed        seed of the run
+     */
+    public FuzzRunner(int cases, int concurrency, long seed) {
+        if (cases < 1 || concurrency < 1) {
+            throw new IllegalArgumentException("Count of cases and concurrency should be positive");
+        }
+
+        this.cases = cases;
+        this.concurrency = concurrency;
+        this.seed = seed;
+    }
+
+    /**
+     * Method that builds runner with default settings overridden by system properties
+     *
+     * @return runner
+     */
+    public static FuzzRunner fromSystemProperties() {
+        return new FuzzRunner(
+                TestProperties.getInt(CASES_PROPERTY, DEFAULT_CASES),
+                TestProperties.getInt(CONCURRENCY_PROPERTY, DEFAULT_CONCURRENCY),
+                TestProperties.getLong(SEED_PROPERTY, System.nanoTime())
+        );
+    }
+
+    /**
+     * Getter for seed of the run
+     *
+     * @return seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Method that checks property on generated inputs.
+     * Property fails if it throws an exception or an assertion error
+     *
+     * @param name      name of property (for report)
+     * @param generator generator of inputs
+     * @param property  property
+     * @param <T>       type of inputs
+     * @return summary of the run
+     * @throws AssertionError if property fails on any input (with the shrunk and the original inputs)
+     */
+    public <T> String check(String name, FuzzGenerator<T> generator, Consumer<T> property) {
+        AtomicInteger nextCase = new AtomicInteger();
+        AtomicInteger failedCases = new AtomicInteger();
+        AtomicReference<T> firstFailedInput = new AtomicReference<>();
+        ExecutorService executorService = ExecutorFactory.newExecutor("fuzz-worker-", concurrency);
+        List<Future<?>> workers = new ArrayList<>();
+        long start = System.nanoTime();
+
+        try {
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executorService.submit(() -> {
+                    for (int number = nextCase.getAndIncrement(); number < cases; number = nextCase.getAndIncrement()) {
+                        T input = generator.generate(new Random(seed + number * SEED_MULTIPLIER));
+
+                        if (fails(property, input) != null) {
+                            failedCases.incrementAndGet();
+                            firstFailedInput.compareAndSet(null, input);
+                        }
+                    }
+                }));
+            }
+
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Fuzzing is interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Fuzzing worker failed", e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        String summary = String.format(
+                "%s: cases=%d failed=%d seed=%d cases/s=%.1f",
+                name,
+                cases,
+                failedCases.get(),
+                seed,
+                cases / seconds
+        );
+
+        if (firstFailedInput.get() != null) {
+            T shrunkInput = shrink(generator, property, firstFailedInput.get());
+            AssertionError error = new AssertionError(summary
+                    + System.lineSeparator() + "Shrunk input: " + shrunkInput
+                    + System.lineSeparator() + "Original input: " + firstFailedInput.get());
+            error.initCause(fails(property, shrunkInput));
+            throw error;
+        }
+
+        return summary;
+    }
+
+    /**
+     * Method that shrinks failed input while simpler inputs fail too
+     *
+     * @param generator generator of inputs
+     * @param property  property
+     * @param input     failed input
+     * @param <T>       type of inputs
+     * @return the simplest found input which fails
+     */
+    private static <T> T shrink(FuzzGenerator<T> generator, Consumer<T> property, T input) {
+        T current = input;
+        boolean shrunk = true;
+
+        for (int step = 0; shrunk && step < MAX_SHRINK_STEPS; step++) {
+            shrunk = false;
+
+            for (T candidate : generator.shrink(current)) {
+                if (fails(property, candidate) != null) {
+                    current = candidate;
+                    shrunk = true;
+                    break;
+                }
+            }
+        }
+
+        return current;
+    }
+
+    /**
+     * Method that checks property on one input
+     *
+     * @param property property
+     * @param input    input
+     * @param <T>      type of inputs
+     * @return failure or null if property holds
+     */
+    private static <T> Throwable fails(Consumer<T> property, T input) {
+        try {
+            property.accept(input);
+            return null;
+        } catch (RuntimeException | AssertionError e) {
+            return e;
+        }
+    }
+}
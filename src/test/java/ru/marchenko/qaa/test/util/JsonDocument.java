@@ -0,0 +1,131 @@
+package ru.marchenko.qaa.test.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jackson.JsonLoader;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.util.Optional;
+
+/**
+ * JSON body of response which is parsed once and is read by all matchers of a specification
+ * (schema matchers, field matchers, see {@link #of}).
+ * RestAssured passes the same string of body to every body matcher of a specification on the same thread,
+ * so the last parsed document of every thread is kept and is found by identity of the string.
+ * It is kept by soft reference, so large documents don't hold memory after validation.
+ * Document is shared, so its tree must not be modified
+ */
+public final class JsonDocument {
+
+    /**
+     * The last parsed document of thread
+     */
+    private final static ThreadLocal<SoftReference<JsonDocument>> LAST_DOCUMENT = new ThreadLocal<>();
+
+    /**
+     * JSON string
+     */
+    private final String json;
+
+    /**
+     * Tree of JSON (null if string is not valid JSON)
+     */
+    private final JsonNode root;
+
+    /**
+     * Description of parsing error (null if string is valid JSON)
+     */
+    private final String error;
+
+    /**
+     * Constructor of document
+     *
+     * @param json  JSON string
+     * @param root  tree of JSON
+     * @param error description of parsing error
+     */
+    private JsonDocument(String json, JsonNode root, String error) {
+        this.json = json;
+        this.root = root;
+        this.error = error;
+    }
+
+    /**
+     * Method that returns parsed document of JSON string.
+     * String is parsed only if it is not the string of the last parsed document of the thread
+     *
+     * @param json JSON string
+     * @return shared document
+     */
+    public static JsonDocument of(String json) {
+        Optional<JsonDocument> parsedDocument = findParsed(json);
+
+        if (parsedDocument.isPresent()) {
+            return parsedDocument.get();
+        }
+
+        JsonDocument document = parse(json);
+        LAST_DOCUMENT.set(new SoftReference<>(document));
+
+        return document;
+    }
+
+    /**
+     * Method that returns document of JSON string if it is already parsed by the thread
+     *
+     * @param json JSON string
+     * @return shared document or empty if string is not parsed yet
+     */
+    public static Optional<JsonDocument> findParsed(String json) {
+        SoftReference<JsonDocument> reference = LAST_DOCUMENT.get();
+        JsonDocument document = reference == null ? null : reference.get();
+
+        return document != null && document.json == json ? Optional.of(document) : Optional.empty();
+    }
+
+    /**
+     * Method that checks if string is valid JSON
+     *
+     * @return true if document has tree
+     */
+    public boolean isValid() {
+        return root != null;
+    }
+
+    /**
+     * Getter for tree of JSON
+     *
+     * @return root of tree (it must not be modified)
+     * @throws IllegalStateException if string is not valid JSON
+     */
+    public JsonNode getRoot() {
+        if (root == null) {
+            throw new IllegalStateException(error);
+        }
+
+        return root;
+    }
+
+    /**
+     * Getter for description of parsing error
+     *
+     * @return description or null if string is valid JSON
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * Method that parses JSON string
+     *
+     * @param json JSON string
+     * @return document (with error if string is not valid JSON)
+     */
+    private static JsonDocument parse(String json) {
+        try {
+            return new JsonDocument(json, JsonLoader.fromString(json), null);
+        } catch (IOException e) {
+            return new JsonDocument(json, null, "content is not valid JSON: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package ru.marchenko.qaa.test.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+
+/**
+ * Matcher of JSON body that compares its tree with expected tree (order of array items matters,
+ * order of object fields doesn't). It replaces {@code body("", equalTo(...))} of RestAssured,
+ * which converts the whole body to Groovy objects by GPath.
+ * String is parsed into shared {@link JsonDocument}, so it is parsed once with other matchers of the specification
+ */
+public class JsonEqualsMatcher extends TypeSafeMatcher<String> {
+
+    /**
+     * Expected tree (it must not be modified)
+     */
+    private final JsonNode expected;
+
+    public JsonEqualsMatcher(JsonNode expected) {
+        this.expected = expected;
+    }
+
+    @Override
+    protected boolean matchesSafely(String json) {
+        JsonDocument document = JsonDocument.of(json);
+        return document.isValid() && expected.equals(document.getRoot());
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("JSON equal to ").appendText(expected.toString());
+    }
+
+    @Override
+    protected void describeMismatchSafely(String json, Description mismatchDescription) {
+        JsonDocument document = JsonDocument.of(json);
+
+        if (document.isValid()) {
+            mismatchDescription.appendText("was ").appendText(document.getRoot().toString());
+        } else {
+            mismatchDescription.appendText(document.getError());
+        }
+    }
+}
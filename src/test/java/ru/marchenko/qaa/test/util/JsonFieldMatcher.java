@@ -0,0 +1,54 @@
+package ru.marchenko.qaa.test.util;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+
+/**
+ * Matcher of JSON body that checks value selected by compiled path (see {@link JsonFieldPath}).
+ * It replaces {@code expectBody(path, matcher)} of RestAssured, which evaluates path by Groovy GPath
+ */
+public class JsonFieldMatcher extends TypeSafeMatcher<String> {
+
+    /**
+     * Compiled path of field
+     */
+    private final JsonFieldPath path;
+
+    /**
+     * Matcher of selected value
+     */
+    private final Matcher<?> matcher;
+
+    public JsonFieldMatcher(JsonFieldPath path, Matcher<?> matcher) {
+        this.path = path;
+        this.matcher = matcher;
+    }
+
+    @Override
+    protected boolean matchesSafely(String json) {
+        try {
+            return matcher.matches(path.evaluate(json));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("JSON path ")
+                .appendText(path.toString())
+                .appendText(" ")
+                .appendDescriptionOf(matcher);
+    }
+
+    @Override
+    protected void describeMismatchSafely(String json, Description mismatchDescription) {
+        try {
+            mismatchDescription.appendText("JSON path ").appendText(path.toString()).appendText(" ");
+            matcher.describeMismatch(path.evaluate(json), mismatchDescription);
+        } catch (IllegalArgumentException e) {
+            mismatchDescription.appendText(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package ru.marchenko.qaa.test.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled JSON path of fields and array indexes (like "userId", "author.name" or "[0].id").
+ * Path is parsed once and is evaluated over shared {@link JsonDocument}, so only the selected values are built
+ * and the body is not parsed again for every field.
+ * Result is the same as GPath result of RestAssured: field of array is a list of fields of its items,
+ * missing field is null, numbers are Integer, Long, BigInteger, Float or Double
+ * (so matchers like {@code everyItem(equalTo(1))} work in the same way).
+ * Other GPath expressions (filters, methods, negative indexes) are not supported, see {@link #isSimple}
+ */
+public final class JsonFieldPath {
+
+    /**
+     * Path as it is written
+     */
+    private final String path;
+
+    /**
+     * Names of fields by segments (null for index segments)
+     */
+    private final String[] names;
+
+    /**
+     * Indexes by segments (for index segments only)
+     */
+    private final int[] indexes;
+
+    /**
+     * Constructor of path
+     *
+     * @param path    path as it is written
+     * @param names   names of fields by segments
+     * @param indexes indexes by segments
+     */
+    private JsonFieldPath(String path, String[] names, int[] indexes) {
+        this.path = path;
+        this.names = names;
+        this.indexes = indexes;
+    }
+
+    /**
+     * Method that checks if path can be compiled
+     *
+     * @param path GPath expression
+     * @return true if path consists of names of fields and non-negative indexes only
+     */
+    public static boolean isSimple(String path) {
+        return parse(path) != null;
+    }
+
+    /**
+     * Method that compiles path
+     *
+     * @param path path of fields and array indexes
+     * @return compiled path
+     * @throws IllegalArgumentException if path is not simple
+     */
+    public static JsonFieldPath compile(String path) {
+        JsonFieldPath compiledPath = parse(path);
+
+        if (compiledPath == null) {
+            throw new IllegalArgumentException("Path is not a path of fields and array indexes: " + path);
+        }
+
+        return compiledPath;
+    }
+
+    /**
+     * Method that evaluates path over JSON
+     *
+     * @param json JSON document
+     * @return selected value (list for fields of arrays, null if there is no such field)
+     * @throws IllegalArgumentException if content is not valid JSON
+     */
+    public Object evaluate(String json) {
+        return evaluate(JsonDocument.of(json));
+    }
+
+    /**
+     * Method that evaluates path over parsed JSON
+     *
+     * @param document shared JSON document
+     * @return selected value (list for fields of arrays, null if there is no such field)
+     * @throws IllegalArgumentException if content is not valid JSON
+     */
+    public Object evaluate(JsonDocument document) {
+        if (!document.isValid()) {
+            throw new IllegalArgumentException(document.getError());
+        }
+
+        return evaluate(document.getRoot(), 0);
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    /**
+     * Method that evaluates segments of path from node
+     *
+     * @param node    node of tree
+     * @param segment index of segment to apply
+     * @return selected value
+     */
+    private Object evaluate(JsonNode node, int segment) {
+        if (segment == names.length) {
+            return toValue(node);
+        }
+
+        String name = names[segment];
+
+        if (node.isArray() && name == null) {
+            return indexes[segment] < node.size() ? evaluate(node.get(indexes[segment]), segment + 1) : null;
+        }
+
+        if (node.isArray()) {
+            List<Object> values = new ArrayList<>(node.size());
+
+            for (JsonNode item : node) {
+                values.add(evaluate(item, segment));
+            }
+
+            return values;
+        }
+
+        if (node.isObject() && name != null) {
+            JsonNode value = node.get(name);
+            return value == null ? null : evaluate(value, segment + 1);
+        }
+
+        return null;
+    }
+
+    /**
+     * Method that converts node to value as GPath does
+     *
+     * @param node node of tree
+     * @return map, list, string, number, boolean or null
+     */
+    private static Object toValue(JsonNode node) {
+        if (node.isObject()) {
+            Map<String, Object> object = new LinkedHashMap<>();
+            node.fields().forEachRemaining(field -> object.put(field.getKey(), toValue(field.getValue())));
+
+            return object;
+        }
+
+        if (node.isArray()) {
+            List<Object> array = new ArrayList<>(node.size());
+
+            for (JsonNode item : node) {
+                array.add(toValue(item));
+            }
+
+            return array;
+        }
+
+        if (node.isTextual()) {
+            return node.textValue();
+        }
+
+        if (node.isIntegralNumber()) {
+            return node.numberValue();
+        }
+
+        if (node.isNumber()) {
+            double value = node.doubleValue();
+            return Float.isInfinite((float) value) ? (Object) value : (Object) (float) value;
+        }
+
+        if (node.isBoolean()) {
+            return node.booleanValue();
+        }
+
+        return null;
+    }
+
+    /**
+     * Method that parses path
+     *
+     * @param path path of fields and array indexes
+     * @return compiled path or null if path is not simple
+     */
+    private static JsonFieldPath parse(String path) {
+        if (path == null || path.isEmpty()) {
+            return null;
+        }
+
+        List<String> names = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        int position = 0;
+
+        while (position < path.length()) {
+            char c = path.charAt(position);
+
+            if (c == '[') {
+                int end = path.indexOf(']', position);
+
+                if (end < position + 2 || !isDigits(path, position + 1, end) || end - position > 10) {
+                    return null;
+                }
+
+                names.add(null);
+                indexes.add(Integer.parseInt(path.substring(position + 1, end)));
+                position = end + 1;
+            } else {
+                if (c == '.' && !names.isEmpty()) {
+                    position++;
+                }
+
+                int end = position;
+
+                while (end < path.length() && (end == position
+                        ? Character.isJavaIdentifierStart(path.charAt(end))
+                        : Character.isJavaIdentifierPart(path.charAt(end)))) {
+                    end++;
+                }
+
+                if (end == position) {
+                    return null;
+                }
+
+                names.add(path.substring(position, end));
+                indexes.add(-1);
+                position = end;
+            }
+
+            if (position < path.length() && path.charAt(position) != '.' && path.charAt(position) != '[') {
+                return null;
+            }
+        }
+
+        return new JsonFieldPath(
+                path,
+                names.toArray(new String[0]),
+                indexes.stream().mapToInt(Integer::intValue).toArray()
+        );
+    }
+
+    /**
+     * Method that checks if part of string consists of digits
+     *
+     * @param string string
+     * @param start  start of part (inclusive)
+     * @param end    end of part (exclusive)
+     * @return true if all characters are digits
+     */
+    private static boolean isDigits(String string, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (string.charAt(i) < '0' || string.charAt(i) > '9') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,50 @@
+package ru.marchenko.qaa.test.util;
+
+import com.github.fge.jsonschema.main.JsonSchema;
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+
+/**
+ * Matcher that validates JSON string against compiled JSON schema.
+ * Unlike validator from json-schema-validator module it keeps no state between matches.
+ * String is parsed into shared {@link JsonDocument}, so other matchers of the specification don't parse it again
+ */
+public class JsonSchemaMatcher extends TypeSafeMatcher<String> {
+
+    /**
+     * Path to JSON schema in classpath (for description)
+     */
+    private final String pathToSchema;
+
+    /**
+     * Compiled schema
+     */
+    private final JsonSchema schema;
+
+    public JsonSchemaMatcher(String pathToSchema, JsonSchema schema) {
+        this.pathToSchema = pathToSchema;
+        this.schema = schema;
+    }
+
+    @Override
+    protected boolean matchesSafely(String json) {
+        JsonDocument document = JsonDocument.of(json);
+        return document.isValid() && schema.validInstanceUnchecked(document.getRoot());
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("The content to match the JSON schema ").appendValue(pathToSchema);
+    }
+
+    @Override
+    protected void describeMismatchSafely(String json, Description mismatchDescription) {
+        JsonDocument document = JsonDocument.of(json);
+
+        if (document.isValid()) {
+            mismatchDescription.appendText(schema.validateUnchecked(document.getRoot()).toString());
+        } else {
+            mismatchDescription.appendText(document.getError());
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package ru.marchenko.qaa.test.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jackson.JsonLoader;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import org.hamcrest.Matcher;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Class that loads and compiles JSON schemas from classpath once per JVM.
+ * Compiled schemas are immutable, so matchers built from them can be shared between threads
+ */
+public final class JsonSchemaRegistry {
+
+    /**
+     * Factory that compiles JSON schemas
+     */
+    private final static JsonSchemaFactory JSON_SCHEMA_FACTORY = JsonSchemaFactory.byDefault();
+
+    /**
+     * Compiled schemas by their paths in classpath
+     */
+    private final static ConcurrentMap<String, JsonSchema> SCHEMAS = new ConcurrentHashMap<>();
+
+    /**
+     * Compiled schemas of array items by paths of array schemas in classpath
+     */
+    private final static ConcurrentMap<String, JsonSchema> ITEM_SCHEMAS = new ConcurrentHashMap<>();
+
+    /**
+     * Schema documents by their paths in classpath
+     */
+    private final static ConcurrentMap<String, JsonNode> SCHEMA_DOCUMENTS = new ConcurrentHashMap<>();
+
+    private JsonSchemaRegistry() {
+    }
+
+    /**
+     * Method that builds matcher which validates JSON string against the schema from classpath
+     *
+     * @param pathToSchema path to JSON schema in classpath
+     * @return thread-safe matcher
+     */
+    public static Matcher<String> matchesJsonSchemaInClasspath(String pathToSchema) {
+        return new JsonSchemaMatcher(pathToSchema, getSchema(pathToSchema));
+    }
+
+    /**
+     * Method that builds matcher which validates JSON array string against the schema from classpath
+     * item by item, without building tree of the whole array.
+     * The schema should describe array with "items" keyword
+     *
+     * @param pathToSchema path to JSON schema of array in classpath
+     * @return thread-safe matcher
+     */
+    public static Matcher<String> matchesJsonSchemaInClasspathStreaming(String pathToSchema) {
+        return new StreamingJsonArraySchemaMatcher(pathToSchema, getArrayValidator(pathToSchema));
+    }
+
+    /**
+     * Method that builds streaming validator of JSON arrays by the schema from classpath
+     *
+     * @param pathToSchema path to JSON schema of array in classpath
+     * @return thread-safe validator
+     */
+    public static StreamingJsonArrayValidator getArrayValidator(String pathToSchema) {
+        return new StreamingJsonArrayValidator(getItemSchema(pathToSchema));
+    }
+
+    /**
+     * Method that returns compiled schema of array items.
+     * If "items" is a list of schemas, the first one is used for every item
+     *
+     * @param pathToSchema path to JSON schema of array in classpath
+     * @return compiled schema of items
+     */
+    public static JsonSchema getItemSchema(String pathToSchema) {
+        return ITEM_SCHEMAS.computeIfAbsent(pathToSchema, path -> {
+            JsonNode items = getSchemaDocument(path).path("items");
+
+            if (items.isArray() && items.size() > 0) {
+                return compile(getSchemaDocument(path), "/items/0");
+            }
+
+            if (items.isObject()) {
+                return compile(getSchemaDocument(path), "/items");
+            }
+
+            throw new IllegalArgumentException("JSON schema " + path + " doesn't describe array items");
+        });
+    }
+
+    /**
+     * Method that returns compiled schema from classpath
+     *
+     * @param pathToSchema path to JSON schema in classpath
+     * @return compiled schema
+     */
+    public static JsonSchema getSchema(String pathToSchema) {
+        return SCHEMAS.computeIfAbsent(pathToSchema, path -> compile(getSchemaDocument(path), ""));
+    }
+
+    /**
+     * Method that returns parsed schema document from classpath
+     *
+     * @param pathToSchema path to JSON schema in classpath
+     * @return schema document
+     */
+    public static JsonNode getSchemaDocument(String pathToSchema) {
+        return SCHEMA_DOCUMENTS.computeIfAbsent(pathToSchema, JsonSchemaRegistry::load);
+    }
+
+    /**
+     * Method that compiles schema (or its part)
+     *
+     * @param schemaDocument schema document
+     * @param pointer        JSON pointer to the part of schema ("" for the whole schema)
+     * @return compiled schema
+     */
+    private static JsonSchema compile(JsonNode schemaDocument, String pointer) {
+        try {
+            return JSON_SCHEMA_FACTORY.getJsonSchema(schemaDocument, pointer);
+        } catch (ProcessingException e) {
+            throw new IllegalStateException("JSON schema can't be compiled: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Method that reads schema document from classpath
+     *
+     * @param pathToSchema path to JSON schema in classpath
+     * @return schema document
+     */
+    private static JsonNode load(String pathToSchema) {
+        InputStream inputStream = JsonSchemaRegistry.class.getClassLoader().getResourceAsStream(pathToSchema);
+
+        if (inputStream == null) {
+            throw new IllegalArgumentException("JSON schema " + pathToSchema + " is not found in classpath");
+        }
+
+        try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            return JsonLoader.fromReader(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
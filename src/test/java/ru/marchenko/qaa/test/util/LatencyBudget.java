@@ -0,0 +1,253 @@
+package ru.marchenko.qaa.test.util;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Class that keeps latency budget of one endpoint: max time of every request
+ * and max p50/p95/p99 of times of all requests of the run.
+ * Time of every request is checked and recorded by {@link #responseTimeMatcher()}
+ * (see {@link ResponseSpecificationBuilder}), percentiles of all budgets are checked by {@link LatencyBudgetExtension}
+ * when all test classes are finished.
+ * Times of requests sent during warm-up (see {@link WarmUpListener}) and of the first request of every thread
+ * (it pays for initialization of the thread and of its client) are checked but are not recorded,
+ * so they don't skew percentiles of short runs.
+ * Limits are read from "api.sla.&lt;key&gt;.max.millis" and "api.sla.&lt;key&gt;.p50|p95|p99.millis" properties
+ * (0 means no limit), all budgets are disabled by "api.sla.enabled=false"
+ */
+public class LatencyBudget {
+
+    /**
+     * Name of property which enables latency budgets
+     */
+    public final static String ENABLED_PROPERTY = "api.sla.enabled";
+
+    /**
+     * Prefix of properties with limits of endpoint
+     */
+    private final static String PROPERTY_PREFIX = "api.sla.";
+
+    /**
+     * Count of significant value digits in histogram
+     */
+    private final static int SIGNIFICANT_DIGITS = 3;
+
+    /**
+     * All created budgets
+     */
+    private final static List<LatencyBudget> BUDGETS = new CopyOnWriteArrayList<>();
+
+    /**
+     * Flag of recording of times (it is cleared during warm-up)
+     */
+    private static volatile boolean recording = true;
+
+    /**
+     * Flag of recorded first request of the current thread
+     */
+    private final static ThreadLocal<Boolean> FIRST_REQUEST_SENT = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * Name of endpoint
+     */
+    private final String name;
+
+    /**
+     * Max time of every request (in milliseconds)
+     */
+    private final long maxMillis;
+
+    /**
+     * Max median time (in milliseconds)
+     */
+    private final long p50Millis;
+
+    /**
+     * Max 95th percentile of time (in milliseconds)
+     */
+    private final long p95Millis;
+
+    /**
+     * Max 99th percentile of time (in milliseconds)
+     */
+    private final long p99Millis;
+
+    /**
+     * Flag of checking the budget
+     */
+    private final boolean enabled;
+
+    /**
+     * Times of requests (in milliseconds)
+     */
+    private final Histogram histogram = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+
+    public LatencyBudget(
+            String name,
+            long maxMillis,
+            long p50Millis,
+            long p95Millis,
+            long p99Millis,
+            boolean enabled
+    ) {
+        if (maxMillis < 0 || p50Millis < 0 || p95Millis < 0 || p99Millis < 0) {
+            throw new IllegalArgumentException("Limits of latency budget should not be negative");
+        }
+
+        this.name = name;
+        this.maxMillis = maxMillis;
+        this.p50Millis = p50Millis;
+        this.p95Millis = p95Millis;
+        this.p99Millis = p99Millis;
+        this.enabled = enabled;
+        BUDGETS.add(this);
+    }
+
+    /**
+     * Method that builds budget with default limits overridden by system properties
+     *
+     * @param name             name of endpoint (for messages)
+     * @param key              key of endpoint in names of properties
+     * @param defaultMaxMillis default max time of every request
+     * @param defaultP50Millis default max median time
+     * @param defaultP95Millis default max 95th percentile of time
+     * @param defaultP99Millis default max 99th percentile of time
+     * @return latency budget
+     */
+    public static LatencyBudget fromSystemProperties(
+            String name,
+            String key,
+            long defaultMaxMillis,
+            long defaultP50Millis,
+            long defaultP95Millis,
+            long defaultP99Millis
+    ) {
+        String prefix = PROPERTY_PREFIX + key + ".";
+
+        return new LatencyBudget(
+                name,
+                TestProperties.getLong(prefix + "max.millis", defaultMaxMillis),
+                TestProperties.getLong(prefix + "p50.millis", defaultP50Millis),
+                TestProperties.getLong(prefix + "p95.millis", defaultP95Millis),
+                TestProperties.getLong(prefix + "p99.millis", defaultP99Millis),
+                TestProperties.getBoolean(ENABLED_PROPERTY, true)
+        );
+    }
+
+    /**
+     * Method that returns matcher of response time (in milliseconds) which records time
+     * and checks that it is not greater than max time.
+     * Unknown time (negative, e.g. of replayed response) is neither recorded nor checked
+     *
+     * @return matcher for {@code expectResponseTime}
+     */
+    public Matcher<Long> responseTimeMatcher() {
+        return new TypeSafeMatcher<>() {
+            @Override
+            protected boolean matchesSafely(Long millis) {
+                if (millis < 0) {
+                    return true;
+                }
+
+                if (!FIRST_REQUEST_SENT.get()) {
+                    FIRST_REQUEST_SENT.set(true);
+                } else if (recording) {
+                    histogram.recordValue(millis);
+                }
+
+                return !enabled || maxMillis == 0 || millis <= maxMillis;
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("within budget of " + name + ": at most " + maxMillis);
+            }
+        };
+    }
+
+    /**
+     * Method that checks percentiles of times of all recorded requests
+     *
+     * @return violated limits (empty if budget is kept or disabled)
+     */
+    public List<String> getViolations() {
+        List<String> violations = new ArrayList<>();
+
+        if (!enabled || histogram.getTotalCount() == 0) {
+            return violations;
+        }
+
+        checkPercentile(violations, 50, p50Millis);
+        checkPercentile(violations, 95, p95Millis);
+        checkPercentile(violations, 99, p99Millis);
+
+        return violations;
+    }
+
+    /**
+     * Method that returns summary of recorded times
+     *
+     * @return count of requests and percentiles of times
+     */
+    public String getSummary() {
+        return String.format(
+                Locale.ROOT,
+                "%s: count=%d p50=%d ms p95=%d ms p99=%d ms max=%d ms",
+                name,
+                histogram.getTotalCount(),
+                histogram.getValueAtPercentile(50),
+                histogram.getValueAtPercentile(95),
+                histogram.getValueAtPercentile(99),
+                histogram.getMaxValue()
+        );
+    }
+
+    /**
+     * Method that returns all created budgets
+     *
+     * @return budgets in order of creation
+     */
+    public static List<LatencyBudget> getAll() {
+        return List.copyOf(BUDGETS);
+    }
+
+    /**
+     * Method that enables or disables recording of times of all budgets (like during warm-up).
+     * Times are checked against max time anyway
+     *
+     * @param enabled true if times should be recorded
+     */
+    public static void setRecording(boolean enabled) {
+        recording = enabled;
+    }
+
+    /**
+     * Method that checks one percentile
+     *
+     * @param violations violated limits
+     * @param percentile percentile
+     * @param limitMillis max value of percentile (0 means no limit)
+     */
+    private void checkPercentile(List<String> violations, double percentile, long limitMillis) {
+        long millis = histogram.getValueAtPercentile(percentile);
+
+        if (limitMillis > 0 && millis > limitMillis) {
+            violations.add(String.format(
+                    Locale.ROOT,
+                    "p%.0f of %s is %d ms (budget is %d ms)",
+                    percentile,
+                    name,
+                    millis,
+                    limitMillis
+            ));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package ru.marchenko.qaa.test.util;
+
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Extension that checks percentiles of response times of all latency budgets (see {@link LatencyBudget})
+ * when all test classes are finished, so the run fails if any budget is exceeded whichever tests were run.
+ * Check is kept in the store of the root context, which is closed by JUnit after the last class
+ * (exceptions of {@code TestExecutionListener} are only logged by the launcher and don't fail the run).
+ * Summary of budgets is written to "latency-budgets.txt" in "timing.results.directory" (if it is set).
+ * It is registered in META-INF/services for every test class (extensions are autodetected)
+ */
+public class LatencyBudgetExtension implements BeforeAllCallback {
+
+    /**
+     * Namespace of the check in the store of the root context
+     */
+    private final static ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(
+            LatencyBudgetExtension.class
+    );
+
+    /**
+     * Name of file with summary of budgets
+     */
+    private final static String SUMMARY_FILE_NAME = "latency-budgets.txt";
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        context.getRoot()
+                .getStore(NAMESPACE)
+                .getOrComputeIfAbsent(Verification.class, key -> new Verification(), Verification.class);
+    }
+
+    /**
+     * Method that writes summary of budgets
+     *
+     * @param summary summary of budgets
+     */
+    private static void writeSummary(String summary) {
+        String resultsDirectory = TestProperties.getString(TimingRecorder.RESULTS_DIRECTORY_PROPERTY, null);
+
+        if (resultsDirectory == null) {
+            return;
+        }
+
+        Path directory = Paths.get(resultsDirectory);
+
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve(SUMMARY_FILE_NAME), summary, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't write summary of latency budgets to " + resultsDirectory, e);
+        }
+    }
+
+    /**
+     * Check of all budgets which is run when the root context is closed
+     */
+    private static class Verification implements ExtensionContext.Store.CloseableResource {
+
+        @Override
+        public void close() {
+            List<String> violations = new ArrayList<>();
+            StringBuilder summary = new StringBuilder("Latency budgets:");
+
+            for (LatencyBudget budget : LatencyBudget.getAll()) {
+                violations.addAll(budget.getViolations());
+                summary.append(System.lineSeparator()).append(budget.getSummary());
+            }
+
+            writeSummary(summary.toString());
+
+            if (!violations.isEmpty()) {
+                throw new AssertionError(String.join("; ", violations) + System.lineSeparator() + summary);
+            }
+        }
+    }
+}
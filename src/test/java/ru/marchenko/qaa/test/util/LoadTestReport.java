@@ -0,0 +1,156 @@
+package ru.marchenko.qaa.test.util;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Class that keeps results of load test of one scenario (or of all scenarios together).
+ * Latencies are kept in microseconds
+ */
+public class LoadTestReport {
+
+    /**
+     * Name of report for all scenarios together
+     */
+    public final static String TOTAL_NAME = "total";
+
+    /**
+     * Count of microseconds in millisecond (for output of latencies)
+     */
+    private final static double MICROS_IN_MILLI = 1000.0;
+
+    /**
+     * Name of scenario
+     */
+    private final String name;
+
+    /**
+     * Latencies of requests (in microseconds)
+     */
+    private final Histogram histogram;
+
+    /**
+     * Count of failed requests
+     */
+    private final long errorCount;
+
+    /**
+     * Duration of measured phase
+     */
+    private final Duration duration;
+
+    public LoadTestReport(String name, Histogram histogram, long errorCount, Duration duration) {
+        this.name = name;
+        this.histogram = histogram;
+        this.errorCount = errorCount;
+        this.duration = duration;
+    }
+
+    /**
+     * Method that merges reports of scenarios which were run together
+     *
+     * @param reports reports of scenarios
+     * @return report for all scenarios
+     */
+    public static LoadTestReport total(Collection<LoadTestReport> reports) {
+        Histogram histogram = null;
+        long errorCount = 0;
+        Duration duration = Duration.ZERO;
+
+        for (LoadTestReport report : reports) {
+            if (histogram == null) {
+                histogram = report.histogram.copy();
+            } else {
+                histogram.add(report.histogram);
+            }
+
+            errorCount += report.errorCount;
+            duration = report.duration;
+        }
+
+        if (histogram == null) {
+            throw new IllegalArgumentException("Reports should not be empty");
+        }
+
+        return new LoadTestReport(TOTAL_NAME, histogram, errorCount, duration);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getRequestCount() {
+        return histogram.getTotalCount();
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Method that returns throughput
+     *
+     * @return requests per second
+     */
+    public double getRequestsPerSecond() {
+        return duration.isZero() ? 0 : getRequestCount() * 1_000_000_000.0 / duration.toNanos();
+    }
+
+    /**
+     * Method that returns share of failed requests
+     *
+     * @return error rate (from 0 to 1)
+     */
+    public double getErrorRate() {
+        return getRequestCount() == 0 ? 0 : (double) errorCount / getRequestCount();
+    }
+
+    /**
+     * Method that returns latency at percentile
+     *
+     * @param percentile percentile (like 99.9)
+     * @return latency (in milliseconds)
+     */
+    public double getLatencyMillis(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_IN_MILLI;
+    }
+
+    /**
+     * Method that returns full percentile distribution in HdrHistogram text format
+     * (latencies in milliseconds), which can be plotted by HdrHistogram tools
+     *
+     * @return percentile distribution
+     */
+    public String getPercentileDistribution() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try (PrintStream printStream = new PrintStream(outputStream, true, StandardCharsets.UTF_8)) {
+            histogram.outputPercentileDistribution(printStream, MICROS_IN_MILLI);
+        }
+
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                Locale.ROOT,
+                "%-70s requests=%d rps=%.1f errors=%.2f%% p50=%.3fms p90=%.3fms p99=%.3fms p99.9=%.3fms max=%.3fms",
+                name,
+                getRequestCount(),
+                getRequestsPerSecond(),
+                getErrorRate() * 100,
+                getLatencyMillis(50),
+                getLatencyMillis(90),
+                getLatencyMillis(99),
+                getLatencyMillis(99.9),
+                histogram.getMaxValue() / MICROS_IN_MILLI
+        );
+    }
+}
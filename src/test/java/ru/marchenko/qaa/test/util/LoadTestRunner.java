@@ -0,0 +1,252 @@
+package ru.marchenko.qaa.test.util;
+
+import org.HdrHistogram.Recorder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class that runs API tests as a throughput test.
+ * Every worker calls all scenarios by turns until the end of the run,
+ * latencies are recorded to HdrHistogram recorders (one for every scenario).
+ * Per-request diagnostics (see {@link RequestDiagnostics}) are kept only for every N-th call of a worker
+ * and latency budgets don't record times of the run (they are budgets of single requests, not of load)
+ */
+public class LoadTestRunner {
+
+    /**
+     * Name of property with count of workers (simulated clients).
+     * With virtual threads (see {@link ExecutorFactory}) it can be much bigger than count of platform threads
+     */
+    public final static String CONCURRENCY_PROPERTY = "api.load.concurrency";
+
+    /**
+     * Name of property with duration of measured phase (in seconds)
+     */
+    public final static String DURATION_PROPERTY = "api.load.duration.seconds";
+
+    /**
+     * Name of property with duration of warm-up phase (in seconds)
+     */
+    public final static String WARM_UP_PROPERTY = "api.load.warmup.seconds";
+
+    /**
+     * Name of property with interval of diagnosed calls of every worker (0 disables diagnostics)
+     */
+    public final static String DIAGNOSTICS_INTERVAL_PROPERTY = "api.load.diagnostics.interval";
+
+    /**
+     * Default count of workers
+     */
+    private final static int DEFAULT_CONCURRENCY = 8;
+
+    /**
+     * Default duration of measured phase
+     */
+    private final static long DEFAULT_DURATION_SECONDS = 10;
+
+    /**
+     * Default duration of warm-up phase
+     */
+    private final static long DEFAULT_WARM_UP_SECONDS = 2;
+
+    /**
+     * Default interval of diagnosed calls
+     */
+    private final static int DEFAULT_DIAGNOSTICS_INTERVAL = 100;
+
+    /**
+     * Count of significant value digits in histograms
+     */
+    private final static int SIGNIFICANT_DIGITS = 3;
+
+    /**
+     * Count of workers
+     */
+    private final int concurrency;
+
+    /**
+     * Duration of measured phase
+     */
+    private final Duration duration;
+
+    /**
+     * Duration of warm-up phase (its results are not recorded)
+     */
+    private final Duration warmUp;
+
+    /**
+     * Interval of diagnosed calls of every worker (0 if calls are not diagnosed)
+     */
+    private final int diagnosticsInterval;
+
+    public LoadTestRunner(int concurrency, Duration duration, Duration warmUp, int diagnosticsInterval) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency should be positive");
+        }
+
+        if (diagnosticsInterval < 0) {
+            throw new IllegalArgumentException("Interval of diagnosed calls should not be negative");
+        }
+
+        this.concurrency = concurrency;
+        this.duration = duration;
+        this.warmUp = warmUp;
+        this.diagnosticsInterval = diagnosticsInterval;
+    }
+
+    /**
+     * Method that builds runner with default settings overridden by system properties
+     *
+     * @return runner
+     */
+    public static LoadTestRunner fromSystemProperties() {
+        return new LoadTestRunner(
+                TestProperties.getInt(CONCURRENCY_PROPERTY, DEFAULT_CONCURRENCY),
+                Duration.ofSeconds(TestProperties.getLong(DURATION_PROPERTY, DEFAULT_DURATION_SECONDS)),
+                Duration.ofSeconds(TestProperties.getLong(WARM_UP_PROPERTY, DEFAULT_WARM_UP_SECONDS)),
+                TestProperties.getInt(DIAGNOSTICS_INTERVAL_PROPERTY, DEFAULT_DIAGNOSTICS_INTERVAL)
+        );
+    }
+
+    /**
+     * Method that runs scenarios.
+     * Scenario fails if it throws an exception or an assertion error
+     *
+     * @param scenarios scenarios by names (like calls of {@link TestAPIBuilder})
+     * @return reports by names of scenarios in order of the given map
+     */
+    public Map<String, LoadTestReport> run(Map<String, Runnable> scenarios) {
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("Scenarios should not be empty");
+        }
+
+        List<String> names = new ArrayList<>(scenarios.keySet());
+        List<Runnable> actions = new ArrayList<>(scenarios.values());
+        List<Recorder> recorders = new ArrayList<>();
+        List<LongAdder> errors = new ArrayList<>();
+
+        for (int i = 0; i < actions.size(); i++) {
+            recorders.add(new Recorder(SIGNIFICANT_DIGITS));
+            errors.add(new LongAdder());
+        }
+
+        ExecutorService executorService = ExecutorFactory.newExecutor("load-worker-", concurrency);
+        List<Future<?>> workers = new ArrayList<>();
+        LatencyBudget.setRecording(false);
+
+        try {
+            prime(actions);
+
+            long warmUpEnd = System.nanoTime() + warmUp.toNanos();
+            long end = warmUpEnd + duration.toNanos();
+
+            for (int i = 0; i < concurrency; i++) {
+                int firstScenario = i % actions.size();
+                workers.add(executorService.submit(
+                        () -> work(actions, recorders, errors, firstScenario, diagnosticsInterval, warmUpEnd, end)
+                ));
+            }
+
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Load test is interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Load test worker failed", e.getCause());
+        } finally {
+            executorService.shutdownNow();
+            LatencyBudget.setRecording(true);
+        }
+
+        Map<String, LoadTestReport> reports = new LinkedHashMap<>();
+
+        for (int i = 0; i < names.size(); i++) {
+            reports.put(names.get(i), new LoadTestReport(
+                    names.get(i),
+                    recorders.get(i).getIntervalHistogram(),
+                    errors.get(i).sum(),
+                    duration
+            ));
+        }
+
+        return reports;
+    }
+
+    /**
+     * Method that calls every scenario once before the run,
+     * so lazy initialization (of classes, schemas, connections) doesn't take the whole warm-up phase
+     *
+     * @param actions scenarios
+     */
+    private static void prime(List<Runnable> actions) {
+        for (Runnable action : actions) {
+            try {
+                action.run();
+            } catch (RuntimeException | AssertionError e) {
+                // failures are counted in the measured phase
+            }
+        }
+    }
+
+    /**
+     * Method that calls scenarios by turns until the end of the run
+     *
+     * @param actions             scenarios
+     * @param recorders           latency recorders of scenarios
+     * @param errors              error counters of scenarios
+     * @param firstScenario       index of the first scenario (workers start from different ones)
+     * @param diagnosticsInterval interval of diagnosed calls (0 if calls are not diagnosed)
+     * @param warmUpEnd           time of the end of warm-up phase (in nanoseconds)
+     * @param end                 time of the end of the run (in nanoseconds)
+     */
+    private static void work(
+            List<Runnable> actions,
+            List<Recorder> recorders,
+            List<LongAdder> errors,
+            int firstScenario,
+            int diagnosticsInterval,
+            long warmUpEnd,
+            long end
+    ) {
+        int scenario = firstScenario;
+        long calls = 0;
+        long now = System.nanoTime();
+
+        while (now < end && !Thread.currentThread().isInterrupted()) {
+            long start = now;
+            boolean failed = false;
+            RequestDiagnostics.setEnabled(diagnosticsInterval > 0 && calls++ % diagnosticsInterval == 0);
+
+            try {
+                actions.get(scenario).run();
+            } catch (RuntimeException | AssertionError e) {
+                failed = true;
+            } finally {
+                RequestDiagnostics.setEnabled(true);
+            }
+
+            now = System.nanoTime();
+
+            if (start >= warmUpEnd) {
+                recorders.get(scenario).recordValue(TimeUnit.NANOSECONDS.toMicros(now - start));
+
+                if (failed) {
+                    errors.get(scenario).increment();
+                }
+            }
+
+            scenario = (scenario + 1) % actions.size();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package ru.marchenko.qaa.test.util;
+
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Iterator over pages of collection (like /posts) which are requested by pagination params
+ * ("_page" and "_limit" or "_start" and "_end", as by jsonplaceholder and json-server).
+ * Pages are requested lazily on the calling thread (so filters like Allure and timing filters are applied),
+ * only one page is held by iterator, so memory doesn't depend on size of collection.
+ * Iteration stops when "X-Total-Count" header says that the collection is over,
+ * or (without this header) after the first page which is not full
+ */
+public class PageIterator implements Iterator<Response> {
+
+    /**
+     * Name of header with total count of items
+     */
+    private final static String TOTAL_COUNT_HEADER_NAME = "X-Total-Count";
+
+    /**
+     * Style of pagination params
+     */
+    public enum Style {
+
+        /**
+         * "_page" (from 1) and "_limit" params
+         */
+        PAGE_LIMIT,
+
+        /**
+         * "_start" (inclusive) and "_end" (exclusive) params
+         */
+        START_END
+    }
+
+    /**
+     * Specification for requests
+     */
+    private final RequestSpecification requestSpecification;
+
+    /**
+     * Params for requests (filters without pagination params)
+     */
+    private final Map<String, Object> params;
+
+    /**
+     * Style of pagination params
+     */
+    private final Style style;
+
+    /**
+     * Count of items per page
+     */
+    private final int pageSize;
+
+    /**
+     * Index of the next page (from 0)
+     */
+    private int pageIndex;
+
+    /**
+     * Total count of items (-1 if it is unknown)
+     */
+    private long totalCount = -1;
+
+    /**
+     * Count of items on the last requested page
+     */
+    private int lastPageItemCount;
+
+    /**
+     * Constructor of iterator
+     *
+     * @param requestSpecification specification for requests
+     * @param params               params for requests (filters without pagination params)
+     * @param style                style of pagination params
+     * @param pageSize             count of items per page
+     */
+    public PageIterator(
+            RequestSpecification requestSpecification,
+            Map<String, Object> params,
+            Style style,
+            int pageSize
+    ) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Size of page should be positive: " + pageSize);
+        }
+
+        this.requestSpecification = requestSpecification;
+        this.params = new LinkedHashMap<>(params);
+        this.style = style;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Method that checks if there is the next page.
+     * The first page is always requested (even if the collection is empty)
+     *
+     * @return true if there is the next page
+     */
+    @Override
+    public boolean hasNext() {
+        if (pageIndex == 0) {
+            return true;
+        }
+
+        if (totalCount >= 0) {
+            return (long) pageIndex * pageSize < totalCount;
+        }
+
+        return lastPageItemCount >= pageSize;
+    }
+
+    /**
+     * Method that requests the next page
+     *
+     * @return response with the page
+     * @throws NoSuchElementException if there are no more pages
+     */
+    @Override
+    public Response next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There are no more pages after page " + pageIndex);
+        }
+
+        Response response = given()
+                .spec(requestSpecification)
+                .params(params)
+                .queryParams(pageParams(pageIndex))
+                .when()
+                .get();
+
+        String totalCountHeader = response.getHeader(TOTAL_COUNT_HEADER_NAME);
+
+        try {
+            totalCount = totalCountHeader == null ? -1 : Long.parseLong(totalCountHeader.trim());
+        } catch (NumberFormatException e) {
+            totalCount = -1;
+        }
+
+        lastPageItemCount = totalCount < 0 ? countItems(response) : 0;
+        pageIndex++;
+
+        return response;
+    }
+
+    /**
+     * Getter for total count of items
+     *
+     * @return total count from the last page or -1 if it is unknown
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Method that creates pagination params for page
+     *
+     * @param index index of page (from 0)
+     * @return pagination params
+     */
+    private Map<String, Object> pageParams(int index) {
+        if (style == Style.PAGE_LIMIT) {
+            return Map.of("_page", index + 1, "_limit", pageSize);
+        }
+
+        return Map.of("_start", (long) index * pageSize, "_end", (long) (index + 1) * pageSize);
+    }
+
+    /**
+     * Method that counts items on page
+     *
+     * @param response response with the page
+     * @return count of items or 0 if body is not a JSON array
+     */
+    private static int countItems(Response response) {
+        Object items = response.jsonPath().get("");
+        return items instanceof Collection ? ((Collection<?>) items).size() : 0;
+    }
+}
@@ -0,0 +1,396 @@
+package ru.marchenko.qaa.test.util;
+
+import io.restassured.config.HttpClientConfig;
+import org.apache.http.ConnectionReuseStrategy;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpRequestInterceptor;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.client.AuthenticationStrategy;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.HttpRequestRetryHandler;
+import org.apache.http.client.RedirectStrategy;
+import org.apache.http.client.RequestDirector;
+import org.apache.http.client.UserTokenHandler;
+import org.apache.http.client.entity.DeflateInputStream;
+import org.apache.http.client.entity.InputStreamFactory;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.client.protocol.RequestAcceptEncoding;
+import org.apache.http.client.protocol.ResponseContentEncoding;
+import org.apache.http.config.Lookup;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.routing.HttpRoutePlanner;
+import org.apache.http.entity.BufferedHttpEntity;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpProcessor;
+import org.apache.http.protocol.HttpRequestExecutor;
+import org.brotli.dec.BrotliInputStream;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Factory of HTTP clients that keep connections alive in a pool shared by all clients of the factory,
+ * so repeated requests to the same host reuse warm connections.
+ * RestAssured asks for a client on every request (the instance is not reused), because it sets params
+ * and re-registers its decoding interceptors on the client for every request, which is a data race
+ * for a client shared between threads. Clients are cheap, connections are kept by the shared pool.
+ * Client negotiates content encoding (gzip, deflate and brotli) and decompresses responses by itself.
+ * Response bodies of known length are read into memory as soon as they arrive (with decoding),
+ * so connections return to the pool even if nobody reads the body (RestAssured doesn't release them
+ * for unread bodies). Bodies streamed by the server (without Content-Length) are not buffered:
+ * they are read and decoded from the connection by the caller, which releases the connection
+ * when the body is read to the end or closed.
+ * Stages of every exchange are marked for {@link RequestTimingFilter}.
+ * Requests are sent with rate limit, retries and circuit breaker (see {@link RequestResilience})
+ */
+@SuppressWarnings("deprecation")
+public class PooledHttpClientFactory implements HttpClientConfig.HttpClientFactory {
+
+    /**
+     * Interceptor that marks sending of request (it runs when connection is already established)
+     */
+    private final static HttpRequestInterceptor REQUEST_TIMING_INTERCEPTOR = (request, context) -> {
+        long requestBytes = 0;
+
+        if (request instanceof HttpEntityEnclosingRequest) {
+            HttpEntity entity = ((HttpEntityEnclosingRequest) request).getEntity();
+            requestBytes = entity == null ? 0 : Math.max(entity.getContentLength(), 0);
+        }
+
+        TimingRecorder.markRequestSent(requestBytes);
+    };
+
+    /**
+     * Interceptor that marks receiving of response headers (body is not read yet)
+     */
+    private final static HttpResponseInterceptor HEADERS_TIMING_INTERCEPTOR
+            = (response, context) -> TimingRecorder.markResponseHeadersReceived();
+
+    /**
+     * Name of attribute of HTTP context which is true if response body is streamed by the server
+     */
+    private final static String STREAMED_ATTRIBUTE = PooledHttpClientFactory.class.getName() + ".streamed";
+
+    /**
+     * Interceptor that marks receiving of the whole response body with its size on the wire and its encoding
+     * (it runs after buffering and before decoding). Streamed body is marked when it is read to the end
+     */
+    private final static HttpResponseInterceptor BODY_TIMING_INTERCEPTOR = (response, context) -> {
+        HttpEntity entity = response.getEntity();
+        String contentEncoding = response.containsHeader(HttpHeaders.CONTENT_ENCODING)
+                ? response.getFirstHeader(HttpHeaders.CONTENT_ENCODING).getValue()
+                : null;
+
+        if (Boolean.TRUE.equals(context.getAttribute(STREAMED_ATTRIBUTE))) {
+            response.setEntity(new CountingEntity(
+                    entity,
+                    responseBytes -> TimingRecorder.markResponseBodyReceived(responseBytes, contentEncoding)
+            ));
+        } else {
+            TimingRecorder.markResponseBodyReceived(entity == null ? 0 : entity.getContentLength(), contentEncoding);
+        }
+    };
+
+    /**
+     * Interceptor that decompresses response body into memory and marks its decoded size (it runs after decoding).
+     * Decoding entity is repeatable, but it decodes body on every read and doesn't know its size, so it is buffered too.
+     * Streamed body is decoded while it is read and is marked when it is read to the end
+     */
+    private final static HttpResponseInterceptor DECODED_BODY_INTERCEPTOR = (response, context) -> {
+        HttpEntity entity = response.getEntity();
+
+        if (Boolean.TRUE.equals(context.getAttribute(STREAMED_ATTRIBUTE))) {
+            response.setEntity(new CountingEntity(entity, TimingRecorder::markResponseBodyDecoded));
+            return;
+        }
+
+        if (entity != null && (!entity.isRepeatable() || entity.getContentLength() < 0)) {
+            entity = new BufferedHttpEntity(entity);
+            response.setEntity(entity);
+        }
+
+        TimingRecorder.markResponseBodyDecoded(entity == null ? 0 : entity.getContentLength());
+    };
+
+    /**
+     * Decoders of response bodies by content encoding
+     */
+    private final static Lookup<InputStreamFactory> DECODERS = RegistryBuilder.<InputStreamFactory>create()
+            .register("gzip", GZIPInputStream::new)
+            .register("x-gzip", GZIPInputStream::new)
+            .register("deflate", DeflateInputStream::new)
+            .register("br", BrotliInputStream::new)
+            .build();
+
+    /**
+     * Interceptor that reads response body of known length into memory and releases connection.
+     * Body without Content-Length (chunked) is streamed by the server, so it is left in the connection
+     */
+    private final static HttpResponseInterceptor BUFFERING_INTERCEPTOR = (response, context) -> {
+        HttpEntity entity = response.getEntity();
+        boolean streamed = entity != null && !entity.isRepeatable() && entity.getContentLength() < 0;
+
+        context.setAttribute(STREAMED_ATTRIBUTE, streamed);
+
+        if (entity != null && !entity.isRepeatable() && !streamed) {
+            response.setEntity(new BufferedHttpEntity(entity));
+        }
+    };
+
+    /**
+     * Settings of connection pool
+     */
+    private final ConnectionPoolConfig connectionPoolConfig;
+
+    /**
+     * Rate limit, retries and circuit breaker of requests
+     */
+    private final RequestResilience requestResilience;
+
+    /**
+     * Pool of connections shared by all clients of the factory
+     */
+    private final PoolingClientConnectionManager connectionManager;
+
+    public PooledHttpClientFactory(
+            ConnectionPoolConfig connectionPoolConfig,
+            ResilienceConfig resilienceConfig
+    ) {
+        this.connectionPoolConfig = connectionPoolConfig;
+        this.requestResilience = RequestResilience.of(resilienceConfig);
+        this.connectionManager = new PoolingClientConnectionManager();
+        this.connectionManager.setMaxTotal(connectionPoolConfig.getMaxTotal());
+        this.connectionManager.setDefaultMaxPerRoute(connectionPoolConfig.getMaxPerRoute());
+    }
+
+    /**
+     * Method that creates client for one request over the shared pool of connections
+     * (RestAssured modifies params and interceptors of the client while it sends request)
+     *
+     * @return HTTP client
+     */
+    @Override
+    public HttpClient createHttpClient() {
+        DefaultHttpClient httpClient = new ResilientHttpClient(connectionManager, requestResilience);
+
+        HttpParams params = httpClient.getParams();
+        params.setIntParameter(CoreConnectionPNames.SO_TIMEOUT, connectionPoolConfig.getSocketTimeoutMillis());
+        params.setIntParameter(CoreConnectionPNames.CONNECTION_TIMEOUT, connectionPoolConfig.getConnectTimeoutMillis());
+        params.setLongParameter(ClientPNames.CONN_MANAGER_TIMEOUT, connectionPoolConfig.getConnectTimeoutMillis());
+        params.setBooleanParameter(CoreConnectionPNames.STALE_CONNECTION_CHECK, true);
+        params.setBooleanParameter(CoreConnectionPNames.TCP_NODELAY, true);
+
+        httpClient.setKeepAliveStrategy((response, context) -> {
+            long keepAliveMillis = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return keepAliveMillis < 0
+                    ? connectionPoolConfig.getKeepAliveMillis()
+                    : Math.min(keepAliveMillis, connectionPoolConfig.getKeepAliveMillis());
+        });
+
+        httpClient.addRequestInterceptor(new RequestAcceptEncoding(parseEncodings(connectionPoolConfig.getAcceptEncoding())));
+        httpClient.addRequestInterceptor(REQUEST_TIMING_INTERCEPTOR);
+        httpClient.addResponseInterceptor(HEADERS_TIMING_INTERCEPTOR);
+        httpClient.addResponseInterceptor(BUFFERING_INTERCEPTOR);
+        httpClient.addResponseInterceptor(BODY_TIMING_INTERCEPTOR);
+        httpClient.addResponseInterceptor(new ResponseContentEncoding(DECODERS));
+        httpClient.addResponseInterceptor(DECODED_BODY_INTERCEPTOR);
+
+        return httpClient;
+    }
+
+    /**
+     * Method that splits value of Accept-Encoding header into encodings
+     *
+     * @param acceptEncoding value of Accept-Encoding header (encodings may have weights, like "gzip;q=0.8")
+     * @return encodings
+     */
+    private static List<String> parseEncodings(String acceptEncoding) {
+        return Arrays.stream(acceptEncoding.split(","))
+                .map(String::trim)
+                .filter(encoding -> !encoding.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * HTTP client that sends every attempt of request by a new request director (directors are not reusable)
+     * and retries requests by {@link RequestResilience}
+     */
+    private static class ResilientHttpClient extends DefaultHttpClient {
+
+        /**
+         * Rate limit, retries and circuit breaker of requests
+         */
+        private final RequestResilience requestResilience;
+
+        private ResilientHttpClient(
+                ClientConnectionManager connectionManager,
+                RequestResilience requestResilience
+        ) {
+            super(connectionManager);
+            this.requestResilience = requestResilience;
+        }
+
+        @Override
+        protected RequestDirector createClientRequestDirector(
+                HttpRequestExecutor requestExec,
+                ClientConnectionManager conman,
+                ConnectionReuseStrategy reustrat,
+                ConnectionKeepAliveStrategy kastrat,
+                HttpRoutePlanner rouplan,
+                HttpProcessor httpProcessor,
+                HttpRequestRetryHandler retryHandler,
+                RedirectStrategy redirectStrategy,
+                AuthenticationStrategy targetAuthStrategy,
+                AuthenticationStrategy proxyAuthStrategy,
+                UserTokenHandler userTokenHandler,
+                HttpParams params
+        ) {
+            return (target, request, context) -> requestResilience.execute(
+                    request.getRequestLine().getMethod(),
+                    () -> super.createClientRequestDirector(
+                            requestExec,
+                            conman,
+                            reustrat,
+                            kastrat,
+                            rouplan,
+                            httpProcessor,
+                            retryHandler,
+                            redirectStrategy,
+                            targetAuthStrategy,
+                            proxyAuthStrategy,
+                            userTokenHandler,
+                            params
+                    ).execute(target, request, context)
+            );
+        }
+    }
+
+    /**
+     * Entity that counts bytes of streamed body while it is read and reports the count
+     * when the body is read to the end or is closed
+     */
+    private static class CountingEntity extends HttpEntityWrapper {
+
+        /**
+         * Consumer of count of read bytes
+         */
+        private final LongConsumer onEnd;
+
+        /**
+         * Counting stream of body (it is created once, because streamed body can be read only once)
+         */
+        private InputStream content;
+
+        private CountingEntity(HttpEntity entity, LongConsumer onEnd) {
+            super(entity);
+            this.onEnd = onEnd;
+        }
+
+        @Override
+        public synchronized InputStream getContent() throws IOException {
+            if (content == null) {
+                content = new CountingInputStream(super.getContent(), onEnd);
+            }
+
+            return content;
+        }
+
+        @Override
+        public void writeTo(OutputStream outputStream) throws IOException {
+            try (InputStream inputStream = getContent()) {
+                inputStream.transferTo(outputStream);
+            }
+        }
+    }
+
+    /**
+     * Stream that counts read bytes and reports the count once at the end of stream or on closing
+     */
+    private static class CountingInputStream extends FilterInputStream {
+
+        /**
+         * Consumer of count of read bytes
+         */
+        private final LongConsumer onEnd;
+
+        /**
+         * Count of read bytes
+         */
+        private long count;
+
+        /**
+         * Whether the count is reported
+         */
+        private boolean ended;
+
+        private CountingInputStream(InputStream inputStream, LongConsumer onEnd) {
+            super(inputStream);
+            this.onEnd = onEnd;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+
+            if (value < 0) {
+                end();
+            } else {
+                count++;
+            }
+
+            return value;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            int read = super.read(bytes, offset, length);
+
+            if (read < 0) {
+                end();
+            } else {
+                count += read;
+            }
+
+            return read;
+        }
+
+        @Override
+        public long skip(long length) throws IOException {
+            long skipped = super.skip(length);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public void close() throws IOException {
+            end();
+            super.close();
+        }
+
+        /**
+         * Method that reports count of read bytes (only once)
+         */
+        private void end() {
+            if (!ended) {
+                ended = true;
+                onEnd.accept(count);
+            }
+        }
+    }
+}
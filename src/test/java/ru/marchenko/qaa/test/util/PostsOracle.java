@@ -0,0 +1,247 @@
+package ru.marchenko.qaa.test.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import io.restassured.specification.QueryableRequestSpecification;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.SpecificationQuerier;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Class that computes expected results of filtering posts by query parameters.
+ * The whole collection is fetched once per base URI and indexed by id and userId,
+ * then every combination of filters is evaluated in memory.
+ * It makes checks of filtered responses exact (one more request per run), but it doesn't replace them:
+ * every filter is still requested from the API. Posts are kept as trees of the snapshot,
+ * so expected result is compared with response tree without conversion to Groovy objects
+ */
+public class PostsOracle {
+
+    /**
+     * Name of "id" field
+     */
+    private final static String ID_FIELD_NAME = "id";
+
+    /**
+     * Name of "userId" field
+     */
+    private final static String USER_ID_FIELD_NAME = "userId";
+
+    /**
+     * Oracles by URI of the collection
+     */
+    private final static ConcurrentMap<String, PostsOracle> ORACLES = new ConcurrentHashMap<>();
+
+    /**
+     * All posts in order of the collection
+     */
+    private final List<JsonNode> posts;
+
+    /**
+     * Positions of posts by id
+     */
+    private final Map<String, List<Integer>> positionsById;
+
+    /**
+     * Positions of posts by userId
+     */
+    private final Map<String, List<Integer>> positionsByUserId;
+
+    public PostsOracle(List<JsonNode> posts) {
+        this.posts = Collections.unmodifiableList(new ArrayList<>(posts));
+        this.positionsById = index(this.posts, ID_FIELD_NAME);
+        this.positionsByUserId = index(this.posts, USER_ID_FIELD_NAME);
+    }
+
+    /**
+     * Method that returns oracle for the collection which is requested by the specification.
+     * The collection is fetched on the first call for its URI
+     *
+     * @param requestSpecification specification of request to the collection (query part of base path is ignored)
+     * @return oracle
+     */
+    public static PostsOracle forCollection(RequestSpecification requestSpecification) {
+        QueryableRequestSpecification queryableSpecification = SpecificationQuerier.query(requestSpecification);
+        String collectionPath = getCollectionPath(queryableSpecification.getBasePath());
+
+        return ORACLES.computeIfAbsent(
+                queryableSpecification.getBaseUri() + collectionPath,
+                uri -> new PostsOracle(fetch(requestSpecification, collectionPath))
+        );
+    }
+
+    /**
+     * Method that fetches the whole collection
+     *
+     * @param requestSpecification specification of request to the collection
+     * @param collectionPath       path of the collection
+     * @return all posts
+     */
+    private static List<JsonNode> fetch(RequestSpecification requestSpecification, String collectionPath) {
+        String json = given()
+                .spec(requestSpecification)
+                .basePath(collectionPath)
+                .when()
+                .get()
+                .then()
+                .statusCode(200)
+                .extract()
+                .asString();
+        List<JsonNode> posts = new ArrayList<>();
+        JsonDocument.of(json).getRoot().forEach(posts::add);
+
+        return posts;
+    }
+
+    /**
+     * Method that computes posts which should be returned for the query parameters.
+     * Post matches if string value of every filtered field is equal to any value of the parameter
+     *
+     * @param params query parameters
+     * @return expected JSON array of posts in order of the collection (it must not be modified)
+     */
+    public JsonNode expected(Map<String, ?> params) {
+        Map<String, List<String>> filters = toFilters(params);
+        ArrayNode result = JsonNodeFactory.instance.arrayNode();
+
+        for (int position : candidates(filters)) {
+            JsonNode post = posts.get(position);
+
+            if (matches(post, filters)) {
+                result.add(post);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Method that returns count of posts in the snapshot
+     *
+     * @return count of posts
+     */
+    public int size() {
+        return posts.size();
+    }
+
+    /**
+     * Method that narrows positions of posts with indexes
+     *
+     * @param filters query parameters
+     * @return sorted positions of posts that may match filters
+     */
+    private Collection<Integer> candidates(Map<String, List<String>> filters) {
+        String indexedField = filters.containsKey(ID_FIELD_NAME) ? ID_FIELD_NAME
+                : filters.containsKey(USER_ID_FIELD_NAME) ? USER_ID_FIELD_NAME
+                : null;
+
+        if (indexedField == null) {
+            List<Integer> positions = new ArrayList<>(posts.size());
+
+            for (int i = 0; i < posts.size(); i++) {
+                positions.add(i);
+            }
+
+            return positions;
+        }
+
+        Map<String, List<Integer>> index = ID_FIELD_NAME.equals(indexedField) ? positionsById : positionsByUserId;
+        TreeSet<Integer> positions = new TreeSet<>();
+
+        for (String value : filters.get(indexedField)) {
+            positions.addAll(index.getOrDefault(value, Collections.emptyList()));
+        }
+
+        return positions;
+    }
+
+    /**
+     * Method that checks post by query parameters
+     *
+     * @param post    post for check
+     * @param filters query parameters
+     * @return true if all fields of the post are equal to the parameters
+     */
+    private static boolean matches(JsonNode post, Map<String, List<String>> filters) {
+        for (Map.Entry<String, List<String>> filter : filters.entrySet()) {
+            JsonNode value = post.get(filter.getKey());
+
+            if (value == null || value.isNull() || !filter.getValue().contains(value.asText())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Method that converts query parameters to string values
+     *
+     * @param params query parameters (values may be collections)
+     * @return string values of parameters
+     */
+    private static Map<String, List<String>> toFilters(Map<String, ?> params) {
+        Map<String, List<String>> filters = new LinkedHashMap<>();
+
+        for (Map.Entry<String, ?> param : params.entrySet()) {
+            List<String> values = new ArrayList<>();
+
+            if (param.getValue() instanceof Collection) {
+                for (Object value : (Collection<?>) param.getValue()) {
+                    values.add(String.valueOf(value));
+                }
+            } else {
+                values.add(String.valueOf(param.getValue()));
+            }
+
+            filters.put(param.getKey(), values);
+        }
+
+        return filters;
+    }
+
+    /**
+     * Method that builds index of positions by string value of field
+     *
+     * @param posts     all posts
+     * @param fieldName name of indexed field
+     * @return index
+     */
+    private static Map<String, List<Integer>> index(List<JsonNode> posts, String fieldName) {
+        Map<String, List<Integer>> index = new HashMap<>();
+
+        for (int i = 0; i < posts.size(); i++) {
+            JsonNode value = posts.get(i).get(fieldName);
+
+            if (value != null && !value.isNull()) {
+                index.computeIfAbsent(value.asText(), key -> new ArrayList<>()).add(i);
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * Method that returns path of the collection without query part
+     *
+     * @param basePath base path of request (like /posts?userId={userId})
+     * @return path of the collection (like /posts)
+     */
+    private static String getCollectionPath(String basePath) {
+        int queryIndex = basePath.indexOf('?');
+        return queryIndex < 0 ? basePath : basePath.substring(0, queryIndex);
+    }
+}
@@ -0,0 +1,40 @@
+package ru.marchenko.qaa.test.util;
+
+/**
+ * Switch of per-request diagnostics of the current thread: Allure attachments, timings of requests,
+ * captured responses and comparison with the oracle (see {@link PostsOracle}).
+ * Diagnostics are enabled by default, {@link LoadTestRunner} keeps them only for a sample of requests,
+ * so their cost doesn't skew throughput and latencies of the load test
+ */
+public final class RequestDiagnostics {
+
+    /**
+     * Flag of disabled diagnostics of the current thread
+     */
+    private final static ThreadLocal<Boolean> DISABLED = ThreadLocal.withInitial(() -> false);
+
+    private RequestDiagnostics() {
+    }
+
+    /**
+     * Method that checks whether requests of the current thread should be diagnosed
+     *
+     * @return true if diagnostics are enabled
+     */
+    public static boolean isEnabled() {
+        return !DISABLED.get();
+    }
+
+    /**
+     * Method that enables or disables diagnostics of requests of the current thread
+     *
+     * @param enabled true if requests should be diagnosed
+     */
+    public static void setEnabled(boolean enabled) {
+        if (enabled) {
+            DISABLED.remove();
+        } else {
+            DISABLED.set(true);
+        }
+    }
+}
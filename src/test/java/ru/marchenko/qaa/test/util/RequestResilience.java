@@ -0,0 +1,361 @@
+package ru.marchenko.qaa.test.util;
+
+import org.apache.http.HttpException;
+import org.apache.http.HttpResponse;
+import org.apache.http.util.EntityUtils;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Class that protects the API (and the run) from overload:
+ * limits rate of requests by {@link TokenBucket}, retries idempotent requests
+ * which failed with I/O error or were throttled (429, 502, 503, 504) with exponential backoff and full jitter,
+ * and fails requests fast by {@link CircuitBreaker} when too many of them fail.
+ * Only errors of the server and of the connection are counted as failures, not unexpected responses.
+ * It is applied by HTTP client (see {@link PooledHttpClientFactory}), because RestAssured filters can't send
+ * request twice, so retries are invisible to filters, and replayed responses (see {@link CassetteFilter})
+ * are neither limited nor retried.
+ * Resilience is shared by all clients with the same settings (see {@link #of}), so requests sent by RestAssured
+ * and by {@link AsyncTestAPIBuilder} are counted by one rate limit and one circuit breaker
+ */
+public class RequestResilience {
+
+    /**
+     * HTTP methods which may be retried
+     */
+    private final static Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    /**
+     * Status codes which are retried
+     */
+    private final static Set<Integer> RETRIED_STATUS_CODES = Set.of(429, 502, 503, 504);
+
+    /**
+     * Status code of throttled request
+     */
+    private final static int TOO_MANY_REQUESTS = 429;
+
+    /**
+     * Min status code of server error
+     */
+    private final static int MIN_SERVER_ERROR = 500;
+
+    /**
+     * Name of header with time (in seconds) the server asks to wait before retry
+     */
+    private final static String RETRY_AFTER_HEADER = "Retry-After";
+
+    /**
+     * Shared resilience by settings
+     */
+    private final static ConcurrentMap<ResilienceConfig, RequestResilience> RESILIENCES = new ConcurrentHashMap<>();
+
+    /**
+     * Settings of resilience
+     */
+    private final ResilienceConfig config;
+
+    /**
+     * Limiter of rate of requests or null if rate is unlimited
+     */
+    private final TokenBucket tokenBucket;
+
+    /**
+     * Circuit breaker or null if it is disabled
+     */
+    private final CircuitBreaker circuitBreaker;
+
+    /**
+     * Constructor of resilience
+     *
+     * @param config settings of resilience
+     */
+    public RequestResilience(ResilienceConfig config) {
+        this.config = config;
+        this.tokenBucket = config.getRateLimit() > 0
+                ? new TokenBucket(config.getRateLimit(), config.getBurst())
+                : null;
+        this.circuitBreaker = config.getFailureRate() > 0
+                ? new CircuitBreaker(config.getFailureRate(), config.getWindow(), config.getOpenMillis())
+                : null;
+    }
+
+    /**
+     * Method that returns resilience shared by all clients with the same settings
+     *
+     * @param config settings of resilience
+     * @return shared resilience
+     */
+    public static RequestResilience of(ResilienceConfig config) {
+        return RESILIENCES.computeIfAbsent(config, RequestResilience::new);
+    }
+
+    /**
+     * Method that sends request with rate limit, retries and circuit breaker
+     *
+     * @param method   HTTP method of request
+     * @param exchange sending of request (it is called once for every attempt)
+     * @return response of the last attempt
+     * @throws IOException           if the last attempt failed with I/O error
+     * @throws HttpException         if the last attempt failed with protocol error
+     * @throws IllegalStateException if circuit is open or the thread is interrupted while waiting
+     */
+    public HttpResponse execute(String method, Exchange exchange) throws IOException, HttpException {
+        int maxRetries = IDEMPOTENT_METHODS.contains(method) ? config.getMaxRetries() : 0;
+
+        for (int retry = 0; ; retry++) {
+            if (circuitBreaker != null) {
+                circuitBreaker.acquire();
+            }
+
+            HttpResponse response;
+
+            try {
+                if (tokenBucket != null) {
+                    tokenBucket.acquire();
+                }
+
+                response = exchange.send();
+            } catch (IOException | HttpException | RuntimeException e) {
+                record(true);
+
+                if (retry >= maxRetries) {
+                    throw e;
+                }
+
+                sleep(backoffMillis(retry, null));
+                continue;
+            }
+
+            int statusCode = response.getStatusLine().getStatusCode();
+
+            if (!onResponse(statusCode) || retry >= maxRetries) {
+                return response;
+            }
+
+            EntityUtils.consumeQuietly(response.getEntity());
+            sleep(backoffMillis(
+                    retry,
+                    response.containsHeader(RETRY_AFTER_HEADER)
+                            ? response.getFirstHeader(RETRY_AFTER_HEADER).getValue()
+                            : null
+            ));
+        }
+    }
+
+    /**
+     * Method that sends request asynchronously with rate limit, retries and circuit breaker.
+     * The calling thread doesn't wait: sending is delayed until the rate limit allows it
+     * and retries are scheduled after backoff
+     *
+     * @param method     HTTP method of request
+     * @param exchange   sending of request (it is called once for every attempt)
+     * @param statusCode status code of response
+     * @param retryAfter value of "Retry-After" header of response (null if there is no such header)
+     * @param <T>        type of response
+     * @return future of response of the last attempt (it fails if the last attempt failed or circuit is open)
+     */
+    public <T> CompletableFuture<T> executeAsync(
+            String method,
+            Supplier<CompletableFuture<T>> exchange,
+            ToIntFunction<T> statusCode,
+            Function<T, String> retryAfter
+    ) {
+        return attemptAsync(
+                IDEMPOTENT_METHODS.contains(method) ? config.getMaxRetries() : 0,
+                0,
+                exchange,
+                statusCode,
+                retryAfter
+        );
+    }
+
+    /**
+     * Method that sends one attempt of request asynchronously and schedules the next attempt if it is needed
+     *
+     * @param maxRetries max count of retries
+     * @param retry      number of attempt (from 0)
+     * @param exchange   sending of request
+     * @param statusCode status code of response
+     * @param retryAfter value of "Retry-After" header of response
+     * @param <T>        type of response
+     * @return future of response of the last attempt
+     */
+    private <T> CompletableFuture<T> attemptAsync(
+            int maxRetries,
+            int retry,
+            Supplier<CompletableFuture<T>> exchange,
+            ToIntFunction<T> statusCode,
+            Function<T, String> retryAfter
+    ) {
+        try {
+            if (circuitBreaker != null) {
+                circuitBreaker.acquire();
+            }
+        } catch (IllegalStateException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        long waitNanos = tokenBucket != null ? tokenBucket.reserve() : 0;
+        CompletableFuture<T> response = waitNanos > 0
+                ? CompletableFuture.supplyAsync(exchange, delayed(waitNanos, TimeUnit.NANOSECONDS))
+                        .thenCompose(Function.identity())
+                : exchange.get();
+
+        return response.handle((result, error) -> {
+            if (error != null) {
+                record(true);
+
+                if (retry >= maxRetries) {
+                    return CompletableFuture.<T>failedFuture(
+                            error instanceof CompletionException && error.getCause() != null ? error.getCause() : error
+                    );
+                }
+
+                return retryAsync(backoffMillis(retry, null), maxRetries, retry, exchange, statusCode, retryAfter);
+            }
+
+            if (!onResponse(statusCode.applyAsInt(result)) || retry >= maxRetries) {
+                return CompletableFuture.completedFuture(result);
+            }
+
+            return retryAsync(
+                    backoffMillis(retry, retryAfter.apply(result)),
+                    maxRetries,
+                    retry,
+                    exchange,
+                    statusCode,
+                    retryAfter
+            );
+        }).thenCompose(Function.identity());
+    }
+
+    /**
+     * Method that schedules the next attempt of request after backoff
+     *
+     * @param delayMillis delay before retry (in milliseconds)
+     * @param maxRetries  max count of retries
+     * @param retry       number of the failed attempt
+     * @param exchange    sending of request
+     * @param statusCode  status code of response
+     * @param retryAfter  value of "Retry-After" header of response
+     * @param <T>         type of response
+     * @return future of response of the last attempt
+     */
+    private <T> CompletableFuture<T> retryAsync(
+            long delayMillis,
+            int maxRetries,
+            int retry,
+            Supplier<CompletableFuture<T>> exchange,
+            ToIntFunction<T> statusCode,
+            Function<T, String> retryAfter
+    ) {
+        return CompletableFuture.supplyAsync(
+                () -> attemptAsync(maxRetries, retry + 1, exchange, statusCode, retryAfter),
+                delayed(delayMillis, TimeUnit.MILLISECONDS)
+        ).thenCompose(Function.identity());
+    }
+
+    /**
+     * Method that adapts rate limit to status of response and records it in circuit breaker
+     *
+     * @param statusCode status code of response
+     * @return true if request should be retried
+     */
+    private boolean onResponse(int statusCode) {
+        if (tokenBucket != null) {
+            if (statusCode == TOO_MANY_REQUESTS) {
+                tokenBucket.onThrottled();
+            } else if (statusCode < MIN_SERVER_ERROR) {
+                tokenBucket.onSuccess();
+            }
+        }
+
+        record(statusCode == TOO_MANY_REQUESTS || statusCode >= MIN_SERVER_ERROR);
+
+        return RETRIED_STATUS_CODES.contains(statusCode);
+    }
+
+    /**
+     * Method that returns executor which runs tasks after delay
+     *
+     * @param delay delay
+     * @param unit  unit of delay
+     * @return executor
+     */
+    private static Executor delayed(long delay, TimeUnit unit) {
+        return CompletableFuture.delayedExecutor(delay, unit);
+    }
+
+    /**
+     * Method that records result of request in circuit breaker
+     *
+     * @param failed true if request failed
+     */
+    private void record(boolean failed) {
+        if (circuitBreaker != null) {
+            circuitBreaker.record(failed);
+        }
+    }
+
+    /**
+     * Method that computes delay before retry: random delay up to exponentially growing limit (full jitter),
+     * but not less than the server asks in "Retry-After" header and not more than max backoff
+     *
+     * @param retry      number of retry (from 0)
+     * @param retryAfter value of "Retry-After" header or null
+     * @return delay (in milliseconds)
+     */
+    private long backoffMillis(int retry, String retryAfter) {
+        long limit = Math.min(config.getMaxBackoffMillis(), config.getBackoffMillis() << Math.min(retry, 30));
+        long delay = ThreadLocalRandom.current().nextLong(limit + 1);
+
+        if (retryAfter != null && retryAfter.trim().matches("\\d{1,9}")) {
+            delay = Math.max(delay, Long.parseLong(retryAfter.trim()) * 1000);
+        }
+
+        return Math.min(delay, config.getMaxBackoffMillis());
+    }
+
+    /**
+     * Method that waits before retry
+     *
+     * @param millis delay (in milliseconds)
+     * @throws IllegalStateException if the thread is interrupted while waiting
+     */
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Waiting for retry is interrupted", e);
+        }
+    }
+
+    /**
+     * Sending of one attempt of request
+     */
+    @FunctionalInterface
+    public interface Exchange {
+
+        /**
+         * Method that sends request
+         *
+         * @return response
+         * @throws IOException   if request failed with I/O error
+         * @throws HttpException if request failed with protocol error
+         */
+        HttpResponse send() throws IOException, HttpException;
+    }
+}
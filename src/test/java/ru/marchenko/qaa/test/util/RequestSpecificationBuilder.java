@@ -1,8 +1,16 @@
 package ru.marchenko.qaa.test.util;
 
 import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.ContentType;
 import io.restassured.specification.RequestSpecification;
+import ru.marchenko.qaa.test.stub.PostsStubServer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Class that builds requests specifications
@@ -12,9 +20,79 @@ import io.restassured.specification.RequestSpecification;
 public class RequestSpecificationBuilder {
 
     /**
-     * Method that build request specification
+     * Filter that attaches requests and responses to Allure report (attachments are written in the background).
+     * It is shared by all specifications instead of being registered in static
+     * RestAssured filters, so parallel tests don't modify global state
+     */
+    private final static AsyncAllureRestAssured ALLURE_FILTER = new AsyncAllureRestAssured();
+
+    /**
+     * Filter that records timings of requests
+     */
+    private final static RequestTimingFilter TIMING_FILTER = new RequestTimingFilter();
+
+    /**
+     * Filter that captures responses for printing them if the test fails
+     */
+    private final static ResponseLogFilter LOG_FILTER = new ResponseLogFilter();
+
+    /**
+     * Filter that records exchanges to cassette or replays them from cassette
+     */
+    private final static CassetteFilter CASSETTE_FILTER = new CassetteFilter();
+
+    /**
+     * RestAssured configs by settings of connection pool and resilience.
+     * Every config keeps its own HTTP client factory, so builders with the same settings share one pool,
+     * one rate limit and one circuit breaker
+     */
+    private final static ConcurrentMap<Map.Entry<ConnectionPoolConfig, ResilienceConfig>, RestAssuredConfig> CONFIGS
+            = new ConcurrentHashMap<>();
+
+    /**
+     * RestAssured config with pooled HTTP client
+     */
+    private final RestAssuredConfig restAssuredConfig;
+
+    /**
+     * Constructor of builder with connection pool and resilience configured by system properties
+     */
+    public RequestSpecificationBuilder() {
+        this(ConnectionPoolConfig.fromSystemProperties());
+    }
+
+    /**
+     * Constructor of builder with the given connection pool settings and resilience configured by system properties
      *
-     * @param basePath base path for request specification
+     * @param connectionPoolConfig settings of connection pool
+     */
+    public RequestSpecificationBuilder(ConnectionPoolConfig connectionPoolConfig) {
+        this(connectionPoolConfig, ResilienceConfig.fromSystemProperties());
+    }
+
+    /**
+     * Constructor of builder with the given connection pool and resilience settings
+     *
+     * @param connectionPoolConfig settings of connection pool
+     * @param resilienceConfig     settings of rate limit, retries and circuit breaker
+     */
+    public RequestSpecificationBuilder(
+            ConnectionPoolConfig connectionPoolConfig,
+            ResilienceConfig resilienceConfig
+    ) {
+        this.restAssuredConfig = CONFIGS.computeIfAbsent(
+                Map.entry(connectionPoolConfig, resilienceConfig),
+                configs -> createRestAssuredConfig(configs.getKey(), configs.getValue())
+        );
+    }
+
+    /**
+     * Method that build request specification.
+     * If embedded stub server is enabled, base URI is replaced with URI of the stub
+     *
+     * @param baseUri     base URI for request specification
+     * @param contentType content type for request specification
+     * @param basePath    base path for request specification
      * @return request specification
      */
     public RequestSpecification build(
@@ -23,9 +101,46 @@ public class RequestSpecificationBuilder {
             String basePath
     ) {
         return new RequestSpecBuilder()
-                .setBaseUri(baseUri)
+                .setConfig(restAssuredConfig)
+                .setBaseUri(resolveBaseUri(baseUri))
                 .setContentType(contentType)
                 .setBasePath(basePath)
+                .addFilter(ALLURE_FILTER)
+                .addFilter(TIMING_FILTER)
+                .addFilter(LOG_FILTER)
+                .addFilter(CASSETTE_FILTER)
                 .build();
     }
+
+    /**
+     * Method that chooses base URI for requests.
+     * Stub server is not started when responses are replayed from cassette
+     *
+     * @param baseUri base URI of the real API
+     * @return base URI of the stub server if it is enabled, otherwise base URI of the real API
+     */
+    private String resolveBaseUri(String baseUri) {
+        return TestProperties.isStubEnabled() && !CassetteFilter.isReplaying()
+                ? PostsStubServer.getInstance().getBaseUri()
+                : baseUri;
+    }
+
+    /**
+     * Method that creates RestAssured config which creates HTTP client for every request over one pool of connections
+     * (a shared client instance would be modified by RestAssured from parallel tests).
+     * Content decoding, rate limit and retries are left to the client (see {@link PooledHttpClientFactory})
+     *
+     * @param connectionPoolConfig settings of connection pool
+     * @param resilienceConfig     settings of rate limit, retries and circuit breaker
+     * @return RestAssured config
+     */
+    private static RestAssuredConfig createRestAssuredConfig(
+            ConnectionPoolConfig connectionPoolConfig,
+            ResilienceConfig resilienceConfig
+    ) {
+        return RestAssuredConfig.config()
+                .httpClient(HttpClientConfig.httpClientConfig()
+                        .httpClientFactory(new PooledHttpClientFactory(connectionPoolConfig, resilienceConfig)))
+                .decoderConfig(DecoderConfig.decoderConfig().noContentDecoders());
+    }
 }
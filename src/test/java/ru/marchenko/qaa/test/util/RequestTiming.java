@@ -0,0 +1,214 @@
+package ru.marchenko.qaa.test.util;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.util.Locale;
+
+/**
+ * Class that keeps timing of one HTTP request.
+ * Times are measured from sending of request by HTTP client, sizes are sizes of bodies on the wire
+ * (and decoded size of response body, so compression of responses can be measured)
+ */
+@JsonPropertyOrder({
+        "test", "method", "uri", "endpoint", "statusCode", "timeToFirstByteMillis", "totalMillis",
+        "requestBytes", "responseBytes", "decodedResponseBytes", "contentEncoding", "startedAt"
+})
+public class RequestTiming {
+
+    /**
+     * Header of CSV summary
+     */
+    public final static String CSV_HEADER
+            = "test,method,uri,endpoint,statusCode,timeToFirstByteMillis,totalMillis,"
+            + "requestBytes,responseBytes,decodedResponseBytes,contentEncoding,startedAt";
+
+    /**
+     * Name of test which sent request (null if request was sent outside of test)
+     */
+    private final String test;
+
+    /**
+     * HTTP method
+     */
+    private final String method;
+
+    /**
+     * URI of request
+     */
+    private final String uri;
+
+    /**
+     * Endpoint of request: method and path template with names of query params (like GET /posts?userId={userId})
+     */
+    private final String endpoint;
+
+    /**
+     * Status code of response
+     */
+    private final int statusCode;
+
+    /**
+     * Time from sending of request to receiving of response headers (-1 if unknown)
+     */
+    private final double timeToFirstByteMillis;
+
+    /**
+     * Time from sending of request to receiving of the whole response body
+     */
+    private final double totalMillis;
+
+    /**
+     * Size of request body
+     */
+    private final long requestBytes;
+
+    /**
+     * Size of response body (-1 if unknown)
+     */
+    private final long responseBytes;
+
+    /**
+     * Size of decoded response body (-1 if unknown)
+     */
+    private final long decodedResponseBytes;
+
+    /**
+     * Content encoding of response body (null if it is not encoded)
+     */
+    private final String contentEncoding;
+
+    /**
+     * Time of sending of request (epoch milliseconds)
+     */
+    private final long startedAt;
+
+    @JsonCreator
+    public RequestTiming(
+            @JsonProperty("test") String test,
+            @JsonProperty("method") String method,
+            @JsonProperty("uri") String uri,
+            @JsonProperty("endpoint") String endpoint,
+            @JsonProperty("statusCode") int statusCode,
+            @JsonProperty("timeToFirstByteMillis") double timeToFirstByteMillis,
+            @JsonProperty("totalMillis") double totalMillis,
+            @JsonProperty("requestBytes") long requestBytes,
+            @JsonProperty("responseBytes") long responseBytes,
+            @JsonProperty("decodedResponseBytes") long decodedResponseBytes,
+            @JsonProperty("contentEncoding") String contentEncoding,
+            @JsonProperty("startedAt") long startedAt
+    ) {
+        this.test = test;
+        this.method = method;
+        this.uri = uri;
+        this.endpoint = endpoint;
+        this.statusCode = statusCode;
+        this.timeToFirstByteMillis = timeToFirstByteMillis;
+        this.totalMillis = totalMillis;
+        this.requestBytes = requestBytes;
+        this.responseBytes = responseBytes;
+        this.decodedResponseBytes = decodedResponseBytes;
+        this.contentEncoding = contentEncoding;
+        this.startedAt = startedAt;
+    }
+
+    public String getTest() {
+        return test;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public double getTimeToFirstByteMillis() {
+        return timeToFirstByteMillis;
+    }
+
+    public double getTotalMillis() {
+        return totalMillis;
+    }
+
+    public long getRequestBytes() {
+        return requestBytes;
+    }
+
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    public long getDecodedResponseBytes() {
+        return decodedResponseBytes;
+    }
+
+    public String getContentEncoding() {
+        return contentEncoding;
+    }
+
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * Method that formats timing as row of CSV summary
+     *
+     * @return CSV row (without line separator)
+     */
+    public String toCsvRow() {
+        return String.format(
+                Locale.ROOT,
+                "%s,%s,%s,%s,%d,%.3f,%.3f,%d,%d,%d,%s,%d",
+                escapeCsv(test),
+                method,
+                escapeCsv(uri),
+                escapeCsv(endpoint),
+                statusCode,
+                timeToFirstByteMillis,
+                totalMillis,
+                requestBytes,
+                responseBytes,
+                decodedResponseBytes,
+                contentEncoding == null ? "" : contentEncoding,
+                startedAt
+        );
+    }
+
+    /**
+     * Method that quotes CSV value
+     *
+     * @param value value
+     * @return quoted value (empty string for null)
+     */
+    private static String escapeCsv(String value) {
+        return value == null ? "" : "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                Locale.ROOT,
+                "%s %s -> %d, ttfb=%.3fms, total=%.3fms, request=%dB, response=%dB (%dB decoded, %s)",
+                method,
+                uri,
+                statusCode,
+                timeToFirstByteMillis,
+                totalMillis,
+                requestBytes,
+                responseBytes,
+                decodedResponseBytes,
+                contentEncoding == null ? "identity" : contentEncoding
+        );
+    }
+}
@@ -0,0 +1,168 @@
+package ru.marchenko.qaa.test.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.UncheckedIOException;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Filter that records time to first byte, total time, sizes and status of every request.
+ * Timings are attached to Allure report and are appended to the report of the run by {@link TimingRecorder}.
+ * Times are taken by interceptors of {@link PooledHttpClientFactory} from sending of request,
+ * so time of other filters (like Allure attachments) and of getting connection is not counted.
+ * Requests are not timed if diagnostics are disabled (see {@link RequestDiagnostics})
+ */
+public class RequestTimingFilter implements OrderedFilter {
+
+    /**
+     * Name of Allure attachment with timing
+     */
+    private final static String ATTACHMENT_NAME = "Request timing";
+
+    /**
+     * Count of nanoseconds in millisecond
+     */
+    private final static double NANOS_IN_MILLI = 1_000_000.0;
+
+    /**
+     * Mapper that writes timings to JSON
+     */
+    private final static ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Override
+    public Response filter(
+            FilterableRequestSpecification requestSpec,
+            FilterableResponseSpecification responseSpec,
+            FilterContext ctx
+    ) {
+        if (!RequestDiagnostics.isEnabled()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        TimingRecorder.takeExchange();
+
+        long startedAt = System.currentTimeMillis();
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long end = System.nanoTime();
+
+        RequestTiming timing = toTiming(requestSpec, response, TimingRecorder.takeExchange(), startedAt, start, end);
+        TimingRecorder.record(timing);
+        attach(timing);
+
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return DEFAULT_PRECEDENCE;
+    }
+
+    /**
+     * Method that builds timing of request.
+     * If HTTP client didn't mark stages of exchange, total time is measured around the rest of filters
+     *
+     * @param requestSpec specification of sent request
+     * @param response    received response
+     * @param exchange    stages of exchange or null
+     * @param startedAt   time of start of filter (epoch milliseconds)
+     * @param start       time of start of filter (in nanoseconds)
+     * @param end         time of end of the rest of filters (in nanoseconds)
+     * @return timing
+     */
+    private static RequestTiming toTiming(
+            FilterableRequestSpecification requestSpec,
+            Response response,
+            TimingRecorder.Exchange exchange,
+            long startedAt,
+            long start,
+            long end
+    ) {
+        if (exchange == null) {
+            return new RequestTiming(
+                    TimingRecorder.getCurrentTest(),
+                    requestSpec.getMethod(),
+                    requestSpec.getURI(),
+                    toEndpoint(requestSpec.getMethod(), requestSpec),
+                    response.getStatusCode(),
+                    -1,
+                    (end - start) / NANOS_IN_MILLI,
+                    0,
+                    -1,
+                    -1,
+                    null,
+                    startedAt
+            );
+        }
+
+        long bodyNanos = exchange.bodyNanos < 0 ? end : exchange.bodyNanos;
+
+        return new RequestTiming(
+                TimingRecorder.getCurrentTest(),
+                requestSpec.getMethod(),
+                requestSpec.getURI(),
+                toEndpoint(requestSpec.getMethod(), requestSpec),
+                response.getStatusCode(),
+                exchange.headersNanos < 0 ? -1 : (exchange.headersNanos - exchange.sentNanos) / NANOS_IN_MILLI,
+                (bodyNanos - exchange.sentNanos) / NANOS_IN_MILLI,
+                exchange.requestBytes,
+                exchange.responseBytes,
+                exchange.decodedResponseBytes,
+                exchange.contentEncoding,
+                exchange.sentAt
+        );
+    }
+
+    /**
+     * Method that returns endpoint of request: method, path template and params
+     * which are not in the template (like GET /posts?userId={userId}&title={title})
+     *
+     * @param method      HTTP method of request
+     * @param requestSpec specification of request
+     * @return endpoint
+     */
+    static String toEndpoint(String method, FilterableRequestSpecification requestSpec) {
+        StringBuilder endpoint = new StringBuilder(method)
+                .append(' ')
+                .append(requestSpec.getBasePath())
+                .append(requestSpec.getUserDefinedPath());
+        Set<String> paramNames = new TreeSet<>(requestSpec.getQueryParams().keySet());
+        paramNames.addAll(requestSpec.getRequestParams().keySet());
+
+        for (String paramName : paramNames) {
+            if (endpoint.indexOf("{" + paramName + "}") >= 0) {
+                continue;
+            }
+
+            endpoint.append(endpoint.indexOf("?") < 0 ? '?' : '&')
+                    .append(paramName)
+                    .append("={")
+                    .append(paramName)
+                    .append('}');
+        }
+
+        return endpoint.toString();
+    }
+
+    /**
+     * Method that attaches timing to the current Allure test or step (it is serialized in the background)
+     *
+     * @param timing timing of request
+     */
+    private static void attach(RequestTiming timing) {
+        AllureAttachmentWriter.attach(ATTACHMENT_NAME, "application/json", ".json", () -> {
+            try {
+                return OBJECT_MAPPER.writeValueAsBytes(timing);
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
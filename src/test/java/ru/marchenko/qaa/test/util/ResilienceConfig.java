@@ -0,0 +1,254 @@
+package ru.marchenko.qaa.test.util;
+
+import java.util.Objects;
+
+/**
+ * Class that keeps settings of rate limiting, retries and circuit breaking of requests (see {@link RequestResilience})
+ */
+public final class ResilienceConfig {
+
+    /**
+     * Name of property with max count of requests per second (0 means unlimited)
+     */
+    public final static String RATE_LIMIT_PROPERTY = "api.rate.limit.per.second";
+
+    /**
+     * Name of property with max count of requests sent at once after idle period
+     */
+    public final static String BURST_PROPERTY = "api.rate.limit.burst";
+
+    /**
+     * Name of property with max count of retries of idempotent request
+     */
+    public final static String MAX_RETRIES_PROPERTY = "api.retry.max.retries";
+
+    /**
+     * Name of property with base delay before retry (in milliseconds)
+     */
+    public final static String BACKOFF_PROPERTY = "api.retry.backoff.millis";
+
+    /**
+     * Name of property with max delay before retry (in milliseconds)
+     */
+    public final static String MAX_BACKOFF_PROPERTY = "api.retry.backoff.max.millis";
+
+    /**
+     * Name of property with rate of failed requests which opens circuit (0 disables circuit breaker)
+     */
+    public final static String FAILURE_RATE_PROPERTY = "api.circuit.failure.rate";
+
+    /**
+     * Name of property with count of the last requests which failure rate is computed on
+     */
+    public final static String WINDOW_PROPERTY = "api.circuit.window";
+
+    /**
+     * Name of property with time of failing fast after circuit is opened (in milliseconds)
+     */
+    public final static String OPEN_PROPERTY = "api.circuit.open.millis";
+
+    /**
+     * Default max count of requests per second
+     */
+    private final static double DEFAULT_RATE_LIMIT = 0;
+
+    /**
+     * Default max count of requests sent at once
+     */
+    private final static int DEFAULT_BURST = 10;
+
+    /**
+     * Default max count of retries
+     */
+    private final static int DEFAULT_MAX_RETRIES = 2;
+
+    /**
+     * Default base delay before retry
+     */
+    private final static long DEFAULT_BACKOFF_MILLIS = 100;
+
+    /**
+     * Default max delay before retry
+     */
+    private final static long DEFAULT_MAX_BACKOFF_MILLIS = 2_000;
+
+    /**
+     * Default rate of failed requests which opens circuit
+     */
+    private final static double DEFAULT_FAILURE_RATE = 0.5;
+
+    /**
+     * Default count of the last requests which failure rate is computed on
+     */
+    private final static int DEFAULT_WINDOW = 20;
+
+    /**
+     * Default time of failing fast after circuit is opened
+     */
+    private final static long DEFAULT_OPEN_MILLIS = 5_000;
+
+    /**
+     * Max count of requests per second (0 means unlimited)
+     */
+    private final double rateLimit;
+
+    /**
+     * Max count of requests sent at once
+     */
+    private final int burst;
+
+    /**
+     * Max count of retries of idempotent request
+     */
+    private final int maxRetries;
+
+    /**
+     * Base delay before retry (in milliseconds)
+     */
+    private final long backoffMillis;
+
+    /**
+     * Max delay before retry (in milliseconds)
+     */
+    private final long maxBackoffMillis;
+
+    /**
+     * Rate of failed requests which opens circuit (0 disables circuit breaker)
+     */
+    private final double failureRate;
+
+    /**
+     * Count of the last requests which failure rate is computed on
+     */
+    private final int window;
+
+    /**
+     * Time of failing fast after circuit is opened (in milliseconds)
+     */
+    private final long openMillis;
+
+    public ResilienceConfig(
+            double rateLimit,
+            int burst,
+            int maxRetries,
+            long backoffMillis,
+            long maxBackoffMillis,
+            double failureRate,
+            int window,
+            long openMillis
+    ) {
+        if (rateLimit < 0 || burst < 1 || maxRetries < 0 || backoffMillis < 0 || window < 1 || openMillis < 0) {
+            throw new IllegalArgumentException("Settings of resilience should be non-negative, burst and window positive");
+        }
+
+        if (failureRate < 0 || failureRate > 1) {
+            throw new IllegalArgumentException("Failure rate should be between 0 and 1");
+        }
+
+        this.rateLimit = rateLimit;
+        this.burst = burst;
+        this.maxRetries = maxRetries;
+        this.backoffMillis = backoffMillis;
+        this.maxBackoffMillis = Math.max(maxBackoffMillis, backoffMillis);
+        this.failureRate = failureRate;
+        this.window = window;
+        this.openMillis = openMillis;
+    }
+
+    /**
+     * Method that builds config with default settings overridden by system properties
+     *
+     * @return config of resilience
+     */
+    public static ResilienceConfig fromSystemProperties() {
+        return new ResilienceConfig(
+                TestProperties.getDouble(RATE_LIMIT_PROPERTY, DEFAULT_RATE_LIMIT),
+                TestProperties.getInt(BURST_PROPERTY, DEFAULT_BURST),
+                TestProperties.getInt(MAX_RETRIES_PROPERTY, DEFAULT_MAX_RETRIES),
+                TestProperties.getLong(BACKOFF_PROPERTY, DEFAULT_BACKOFF_MILLIS),
+                TestProperties.getLong(MAX_BACKOFF_PROPERTY, DEFAULT_MAX_BACKOFF_MILLIS),
+                TestProperties.getDouble(FAILURE_RATE_PROPERTY, DEFAULT_FAILURE_RATE),
+                TestProperties.getInt(WINDOW_PROPERTY, DEFAULT_WINDOW),
+                TestProperties.getLong(OPEN_PROPERTY, DEFAULT_OPEN_MILLIS)
+        );
+    }
+
+    public double getRateLimit() {
+        return rateLimit;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public long getBackoffMillis() {
+        return backoffMillis;
+    }
+
+    public long getMaxBackoffMillis() {
+        return maxBackoffMillis;
+    }
+
+    public double getFailureRate() {
+        return failureRate;
+    }
+
+    public int getWindow() {
+        return window;
+    }
+
+    public long getOpenMillis() {
+        return openMillis;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ResilienceConfig that = (ResilienceConfig) o;
+        return Double.compare(rateLimit, that.rateLimit) == 0
+                && burst == that.burst
+                && maxRetries == that.maxRetries
+                && backoffMillis == that.backoffMillis
+                && maxBackoffMillis == that.maxBackoffMillis
+                && Double.compare(failureRate, that.failureRate) == 0
+                && window == that.window
+                && openMillis == that.openMillis;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+                rateLimit,
+                burst,
+                maxRetries,
+                backoffMillis,
+                maxBackoffMillis,
+                failureRate,
+                window,
+                openMillis
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "ResilienceConfig{rateLimit=" + rateLimit
+                + ", burst=" + burst
+                + ", maxRetries=" + maxRetries
+                + ", backoffMillis=" + backoffMillis
+                + ", maxBackoffMillis=" + maxBackoffMillis
+                + ", failureRate=" + failureRate
+                + ", window=" + window
+                + ", openMillis=" + openMillis + "}";
+    }
+}
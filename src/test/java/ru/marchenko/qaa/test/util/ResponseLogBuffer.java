@@ -0,0 +1,174 @@
+package ru.marchenko.qaa.test.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Class that keeps the latest responses of the current thread in a bounded ring buffer.
+ * When total size of entries exceeds the cap, the oldest entries are evicted,
+ * an entry which is bigger than the cap itself is truncated (to the cap in characters before it is encoded,
+ * then to the cap in bytes)
+ */
+public final class ResponseLogBuffer {
+
+    /**
+     * Name of property with max size of buffer of one thread (in bytes)
+     */
+    public final static String CAPACITY_PROPERTY = "api.log.buffer.bytes";
+
+    /**
+     * Default max size of buffer of one thread
+     */
+    private final static int DEFAULT_CAPACITY = 64 * 1024;
+
+    /**
+     * Marker of truncated entry
+     */
+    private final static String TRUNCATED_MARKER = "... (truncated)";
+
+    /**
+     * Max size of buffer of one thread
+     */
+    private final static int CAPACITY = TestProperties.getInt(CAPACITY_PROPERTY, DEFAULT_CAPACITY);
+
+    /**
+     * Buffers of threads
+     */
+    private final static ThreadLocal<Buffer> BUFFERS = ThreadLocal.withInitial(Buffer::new);
+
+    private ResponseLogBuffer() {
+    }
+
+    /**
+     * Method that adds entry to buffer of the current thread
+     *
+     * @param entry entry (like request line, status and body of response)
+     */
+    public static void add(String entry) {
+        if (CAPACITY > 0) {
+            BUFFERS.get().add(truncate(entry).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Getter for max size of buffer of one thread
+     *
+     * @return max size in bytes (0 if responses are not captured)
+     */
+    public static int getCapacity() {
+        return CAPACITY;
+    }
+
+    /**
+     * Method that cuts string to the capacity of buffer before it is encoded:
+     * every character takes at least one byte in UTF-8, so characters after the capacity are never kept.
+     * One more character is kept, so the cut entry still exceeds the capacity and is marked as truncated
+     *
+     * @param value string
+     * @return head of string which is not longer than the capacity plus one character
+     */
+    public static String truncate(String value) {
+        if (value.length() <= CAPACITY + 1) {
+            return value;
+        }
+
+        int end = Character.isHighSurrogate(value.charAt(CAPACITY)) ? CAPACITY : CAPACITY + 1;
+        return value.substring(0, end);
+    }
+
+    /**
+     * Method that removes all entries of the current thread
+     */
+    public static void clear() {
+        BUFFERS.get().clear();
+    }
+
+    /**
+     * Method that removes and returns all entries of the current thread
+     *
+     * @return entries from the oldest to the latest
+     */
+    public static List<String> drain() {
+        return BUFFERS.get().drain();
+    }
+
+    /**
+     * Ring buffer of one thread
+     */
+    private static class Buffer {
+
+        /**
+         * Entries in UTF-8 from the oldest to the latest
+         */
+        private final Deque<byte[]> entries = new ArrayDeque<>();
+
+        /**
+         * Total size of entries
+         */
+        private int size;
+
+        /**
+         * Method that adds entry and evicts the oldest entries if needed
+         *
+         * @param entry entry in UTF-8
+         */
+        void add(byte[] entry) {
+            if (entry.length > CAPACITY) {
+                entry = truncate(entry);
+            }
+
+            while (size + entry.length > CAPACITY) {
+                size -= entries.removeFirst().length;
+            }
+
+            entries.addLast(entry);
+            size += entry.length;
+        }
+
+        /**
+         * Method that removes all entries
+         */
+        void clear() {
+            entries.clear();
+            size = 0;
+        }
+
+        /**
+         * Method that removes and returns all entries
+         *
+         * @return entries from the oldest to the latest
+         */
+        List<String> drain() {
+            List<String> result = new ArrayList<>(entries.size());
+
+            for (byte[] entry : entries) {
+                result.add(new String(entry, StandardCharsets.UTF_8));
+            }
+
+            clear();
+            return result;
+        }
+
+        /**
+         * Method that cuts entry to the capacity of buffer
+         *
+         * @param entry entry in UTF-8
+         * @return head of entry with marker of truncation
+         */
+        private static byte[] truncate(byte[] entry) {
+            byte[] marker = TRUNCATED_MARKER.getBytes(StandardCharsets.UTF_8);
+
+            if (CAPACITY <= marker.length) {
+                return Arrays.copyOf(entry, CAPACITY);
+            }
+
+            byte[] truncated = Arrays.copyOf(entry, CAPACITY);
+            System.arraycopy(marker, 0, truncated, CAPACITY - marker.length, marker.length);
+            return truncated;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package ru.marchenko.qaa.test.util;
+
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
+
+import java.util.List;
+
+/**
+ * Extension that prints responses captured by {@link ResponseLogFilter} only when the test fails.
+ * Buffer of the test thread is cleared before every test, so passing tests don't write anything to console.
+ * It is registered for every test class in META-INF/services (extensions are autodetected)
+ */
+public class ResponseLogExtension implements BeforeEachCallback, TestExecutionExceptionHandler {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        ResponseLogBuffer.clear();
+    }
+
+    @Override
+    public void handleTestExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        List<String> responses = ResponseLogBuffer.drain();
+
+        if (!responses.isEmpty()) {
+            StringBuilder log = new StringBuilder()
+                    .append("Responses of failed test ")
+                    .append(context.getDisplayName())
+                    .append(" (")
+                    .append(responses.size())
+                    .append("):")
+                    .append(System.lineSeparator());
+
+            for (String response : responses) {
+                log.append(response).append(System.lineSeparator());
+            }
+
+            System.out.print(log);
+        }
+
+        throw throwable;
+    }
+}
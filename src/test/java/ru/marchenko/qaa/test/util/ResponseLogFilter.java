@@ -0,0 +1,42 @@
+package ru.marchenko.qaa.test.util;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Filter that captures responses to {@link ResponseLogBuffer} instead of logging them to console.
+ * Captured responses are printed by {@link ResponseLogExtension} only if the test fails.
+ * Responses are not captured if diagnostics are disabled (see {@link RequestDiagnostics}).
+ * Body is cut to the capacity of the buffer before it is copied to the entry
+ */
+public class ResponseLogFilter implements OrderedFilter {
+
+    @Override
+    public Response filter(
+            FilterableRequestSpecification requestSpec,
+            FilterableResponseSpecification responseSpec,
+            FilterContext ctx
+    ) {
+        Response response = ctx.next(requestSpec, responseSpec);
+
+        if (!RequestDiagnostics.isEnabled() || ResponseLogBuffer.getCapacity() == 0) {
+            return response;
+        }
+
+        String body = response.asString();
+        ResponseLogBuffer.add(requestSpec.getMethod() + " " + requestSpec.getURI()
+                + " -> " + response.getStatusLine()
+                + System.lineSeparator()
+                + ResponseLogBuffer.truncate(body));
+
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return DEFAULT_PRECEDENCE;
+    }
+}
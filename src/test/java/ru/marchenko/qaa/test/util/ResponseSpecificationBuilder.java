@@ -5,6 +5,7 @@ import io.restassured.specification.ResponseSpecification;
 import org.hamcrest.Matcher;
 
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Class that builds response specifications
@@ -33,7 +34,9 @@ public class ResponseSpecificationBuilder {
 
     /**
      * Method that builds response specifications for body check
-     * and all fields check
+     * and all fields check.
+     * Simple paths of fields (see {@link JsonFieldPath#isSimple}) are compiled and evaluated without GPath,
+     * other paths are evaluated by GPath
      *
      * @param fieldMatchers matchers for fields
      * @param bodyMatcher   matcher for body
@@ -48,7 +51,11 @@ public class ResponseSpecificationBuilder {
         ResponseSpecBuilder responseSpecificationBuilder = new ResponseSpecBuilder();
 
         for (Map.Entry<String, Matcher<?>> elem : fieldMatchers.entrySet()) {
-            responseSpecificationBuilder = responseSpecificationBuilder.expectBody(elem.getKey(), elem.getValue());
+            responseSpecificationBuilder = JsonFieldPath.isSimple(elem.getKey())
+                    ? responseSpecificationBuilder.expectBody(
+                            new JsonFieldMatcher(JsonFieldPath.compile(elem.getKey()), elem.getValue())
+                    )
+                    : responseSpecificationBuilder.expectBody(elem.getKey(), elem.getValue());
         }
 
         return responseSpecificationBuilder
@@ -56,4 +63,58 @@ public class ResponseSpecificationBuilder {
                 .expectStatusCode(status)
                 .build();
     }
+
+    /**
+     * Method that builds response specifications for body check
+     * with expectation of response time
+     *
+     * @param bodyMatcher   matcher for body
+     * @param status        expected request status
+     * @param latencyBudget latency budget of endpoint
+     * @return response specification
+     */
+    public ResponseSpecification buildSpecWithBodyCheck(
+            Matcher<?> bodyMatcher,
+            int status,
+            LatencyBudget latencyBudget
+    ) {
+        return expectResponseTime(buildSpecWithBodyCheck(bodyMatcher, status), latencyBudget);
+    }
+
+    /**
+     * Method that builds response specifications for body check
+     * and all fields check with expectation of response time
+     *
+     * @param fieldMatchers matchers for fields
+     * @param bodyMatcher   matcher for body
+     * @param status        expected request status
+     * @param latencyBudget latency budget of endpoint
+     * @return response specification
+     */
+    public ResponseSpecification buildSpecWithFieldsAndBodyCheck(
+            Map<String, Matcher<?>> fieldMatchers,
+            Matcher<?> bodyMatcher,
+            int status,
+            LatencyBudget latencyBudget
+    ) {
+        return expectResponseTime(buildSpecWithFieldsAndBodyCheck(fieldMatchers, bodyMatcher, status), latencyBudget);
+    }
+
+    /**
+     * Method that adds expectation of response time to response specification.
+     * Time of every response is checked against max time of the budget and is recorded for its percentiles
+     *
+     * @param responseSpecification response specification
+     * @param latencyBudget         latency budget of endpoint
+     * @return response specification
+     */
+    public ResponseSpecification expectResponseTime(
+            ResponseSpecification responseSpecification,
+            LatencyBudget latencyBudget
+    ) {
+        return new ResponseSpecBuilder()
+                .addResponseSpecification(responseSpecification)
+                .expectResponseTime(latencyBudget.responseTimeMatcher(), TimeUnit.MILLISECONDS)
+                .build();
+    }
 }
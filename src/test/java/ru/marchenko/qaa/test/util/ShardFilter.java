@@ -0,0 +1,268 @@
+package ru.marchenko.qaa.test.util;
+
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Filter that keeps only test methods of one shard, so the suite can be run by several JVMs or CI agents.
+ * Test methods (with all their invocations) are assigned to shards by the longest processing time rule:
+ * from the longest one to the shortest one, every method goes to the shard with the least total duration.
+ * Durations are taken from history (CSV file written by {@link TimingSummaryListener}), so methods
+ * from history are assigned before discovery and the assignment is the same for all shards.
+ * New methods (without history) get the mean duration and are assigned when their classes are discovered
+ * (classes are discovered in the same order for all shards).
+ * It is registered in META-INF/services and is enabled when "api.shard.count" is greater than 1
+ * (assignment of tests from history is written to "shard.txt" with timing results)
+ */
+public class ShardFilter implements PostDiscoveryFilter {
+
+    /**
+     * Name of property with index of shard (from 0)
+     */
+    public final static String INDEX_PROPERTY = "api.shard.index";
+
+    /**
+     * Name of property with count of shards
+     */
+    public final static String COUNT_PROPERTY = "api.shard.count";
+
+    /**
+     * Name of property with CSV file of durations of tests
+     */
+    public final static String DURATIONS_FILE_PROPERTY = "api.shard.durations.file";
+
+    /**
+     * Duration of test if there is no history at all (milliseconds)
+     */
+    private final static double DEFAULT_DURATION_MILLIS = 1000;
+
+    /**
+     * Name of file with assignment of tests from history
+     */
+    private final static String ASSIGNMENT_FILE_NAME = "shard.txt";
+
+    /**
+     * Index of shard
+     */
+    private final int index;
+
+    /**
+     * Count of shards
+     */
+    private final int count;
+
+    /**
+     * Durations of tests in milliseconds by names of tests
+     */
+    private final Map<String, Double> durations;
+
+    /**
+     * Duration of tests without history (mean duration of history)
+     */
+    private final double defaultDuration;
+
+    /**
+     * Total durations of tests of shards
+     */
+    private final double[] loads;
+
+    /**
+     * Indexes of shards by names of assigned tests
+     */
+    private final Map<String, Integer> shards = new HashMap<>();
+
+    /**
+     * Constructor of filter with settings from system properties (it is used by ServiceLoader)
+     */
+    public ShardFilter() {
+        this(
+                TestProperties.getInt(INDEX_PROPERTY, 0),
+                TestProperties.getInt(COUNT_PROPERTY, 1),
+                readDurations(TestProperties.getString(DURATIONS_FILE_PROPERTY, null))
+        );
+    }
+
+    /**
+     * Constructor of filter
+     *
+     * @param index     index of shard (from 0)
+     * @param count     count of shards
+     * @param durations durations of tests in milliseconds by names of tests
+     */
+    public ShardFilter(int index, int count, Map<String, Double> durations) {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Invalid shard " + index + " of " + count);
+        }
+
+        this.index = index;
+        this.count = count;
+        this.durations = durations;
+        this.defaultDuration = durations.values().stream()
+                .mapToDouble(Double::doubleValue)
+                .average()
+                .orElse(DEFAULT_DURATION_MILLIS);
+        this.loads = new double[count];
+
+        if (count > 1) {
+            assign(durations.keySet());
+            writeAssignment(String.format(
+                    Locale.ROOT,
+                    "Shard %d of %d: %d of %d test methods from history, expected %.1f s of %.1f s%n",
+                    index,
+                    count,
+                    shards.values().stream().filter(shard -> shard == index).count(),
+                    shards.size(),
+                    loads[index] / 1000,
+                    Arrays.stream(loads).sum() / 1000
+            ));
+        }
+    }
+
+    @Override
+    public FilterResult apply(TestDescriptor testDescriptor) {
+        Optional<String> test = getTestName(testDescriptor);
+
+        if (count == 1 || test.isEmpty()) {
+            return FilterResult.included("Not a test method");
+        }
+
+        return FilterResult.includedIf(
+                getShard(testDescriptor, test.get()) == index,
+                () -> "Test method of shard " + index,
+                () -> "Test method of another shard"
+        );
+    }
+
+    /**
+     * Method that returns shard of test method.
+     * If the test has no history, all new tests of its engine are assigned
+     *
+     * @param testDescriptor descriptor of test method
+     * @param test           name of test method
+     * @return index of shard
+     */
+    private synchronized int getShard(TestDescriptor testDescriptor, String test) {
+        if (!shards.containsKey(test)) {
+            Set<String> tests = new TreeSet<>();
+            getRoot(testDescriptor).accept(descriptor -> getTestName(descriptor).ifPresent(tests::add));
+            assign(tests);
+        }
+
+        return shards.get(test);
+    }
+
+    /**
+     * Method that assigns tests which are not assigned yet to shards
+     * (from the longest test, every test goes to the shard with the least total duration)
+     *
+     * @param tests names of tests
+     */
+    private void assign(Collection<String> tests) {
+        List<String> newTests = tests.stream()
+                .filter(test -> !shards.containsKey(test))
+                .sorted(Comparator.comparingDouble((String test) -> durations.getOrDefault(test, defaultDuration))
+                        .reversed()
+                        .thenComparing(Comparator.naturalOrder()))
+                .collect(Collectors.toList());
+
+        for (String test : newTests) {
+            int shard = 0;
+
+            for (int i = 1; i < count; i++) {
+                if (loads[i] < loads[shard]) {
+                    shard = i;
+                }
+            }
+
+            loads[shard] += durations.getOrDefault(test, defaultDuration);
+            shards.put(test, shard);
+        }
+    }
+
+    /**
+     * Method that returns root of descriptors
+     *
+     * @param testDescriptor descriptor
+     * @return descriptor of engine
+     */
+    private static TestDescriptor getRoot(TestDescriptor testDescriptor) {
+        TestDescriptor root = testDescriptor;
+
+        while (root.getParent().isPresent()) {
+            root = root.getParent().get();
+        }
+
+        return root;
+    }
+
+    /**
+     * Method that returns name of test method (as it is named by {@link TimingSummaryListener})
+     *
+     * @param testDescriptor descriptor
+     * @return class and method name or empty if descriptor is not a test method (like a class)
+     */
+    private static Optional<String> getTestName(TestDescriptor testDescriptor) {
+        return testDescriptor.getSource()
+                .filter(MethodSource.class::isInstance)
+                .map(MethodSource.class::cast)
+                .map(source -> source.getClassName() + "#" + source.getMethodName());
+    }
+
+    /**
+     * Method that writes assignment of tests from history to "shard.txt" in "timing.results.directory" (if it is set)
+     *
+     * @param assignment description of assignment
+     */
+    private static void writeAssignment(String assignment) {
+        String resultsDirectory = TestProperties.getString(TimingRecorder.RESULTS_DIRECTORY_PROPERTY, null);
+
+        if (resultsDirectory == null) {
+            return;
+        }
+
+        try {
+            Path directory = Files.createDirectories(Paths.get(resultsDirectory));
+            Files.writeString(directory.resolve(ASSIGNMENT_FILE_NAME), assignment, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't write assignment of shard to " + resultsDirectory, e);
+        }
+    }
+
+    /**
+     * Method that reads durations of tests
+     *
+     * @param file CSV file (null if there is no history)
+     * @return durations in milliseconds by names of tests
+     */
+    private static Map<String, Double> readDurations(String file) {
+        if (file == null) {
+            return Map.of();
+        }
+
+        try {
+            return TestDurationRecorder.read(Paths.get(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't read durations of tests from " + file, e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package ru.marchenko.qaa.test.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Class that merges results of shards (see {@link ShardFilter}) into results of one run:
+ * Allure results are copied to one directory (their files are named by unique ids),
+ * timings of requests are concatenated in order of shards (they are streamed, not loaded)
+ * and summaries (with durations of tests) are written again.
+ * Every shard directory should contain "allure-results" and "timing-results" directories
+ */
+public final class ShardResultsMerger {
+
+    /**
+     * Name of directory with Allure results
+     */
+    private final static String ALLURE_RESULTS_DIRECTORY_NAME = "allure-results";
+
+    /**
+     * Name of directory with timing results
+     */
+    private final static String TIMING_RESULTS_DIRECTORY_NAME = "timing-results";
+
+    private ShardResultsMerger() {
+    }
+
+    /**
+     * Method that merges results of all shards of directory
+     *
+     * @param args directory with shard directories and directory for merged results
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: ShardResultsMerger <shards directory> <results directory>");
+        }
+
+        Path shardsDirectory = Paths.get(args[0]);
+
+        try (Stream<Path> shardDirectories = Files.list(shardsDirectory)) {
+            List<Path> shards = shardDirectories
+                    .filter(Files::isDirectory)
+                    .sorted()
+                    .collect(Collectors.toList());
+
+            merge(shards, Paths.get(args[1]));
+            System.out.println("Merged results of " + shards.size() + " shards to " + args[1]);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't merge results of shards from " + shardsDirectory, e);
+        }
+    }
+
+    /**
+     * Method that merges results of shards
+     *
+     * @param shardDirectories directories with results of shards
+     * @param resultsDirectory directory for merged results
+     * @throws IOException if results can't be read or written
+     */
+    public static void merge(List<Path> shardDirectories, Path resultsDirectory) throws IOException {
+        Path allureResultsDirectory = resultsDirectory.resolve(ALLURE_RESULTS_DIRECTORY_NAME);
+        Path mergedTimingResultsDirectory = resultsDirectory.resolve(TIMING_RESULTS_DIRECTORY_NAME);
+        Map<String, Double> testDurations = new TreeMap<>();
+        Files.createDirectories(allureResultsDirectory);
+
+        try (TimingReport report = TimingReport.open(mergedTimingResultsDirectory)) {
+            for (Path shardDirectory : shardDirectories) {
+                copyFiles(shardDirectory.resolve(ALLURE_RESULTS_DIRECTORY_NAME), allureResultsDirectory);
+
+                Path timingResultsDirectory = shardDirectory.resolve(TIMING_RESULTS_DIRECTORY_NAME);
+                TimingReport.readTimings(timingResultsDirectory, timing -> append(report, timing));
+                TestDurationRecorder.read(timingResultsDirectory.resolve(TestDurationRecorder.TEST_DURATIONS_FILE_NAME))
+                        .forEach((test, duration) -> testDurations.merge(test, duration, Double::sum));
+            }
+        }
+
+        TestDurationRecorder.write(
+                mergedTimingResultsDirectory.resolve(TestDurationRecorder.TEST_DURATIONS_FILE_NAME),
+                testDurations
+        );
+    }
+
+    /**
+     * Method that appends timing of shard to merged report
+     *
+     * @param report merged report
+     * @param timing timing of request
+     */
+    private static void append(TimingReport report, RequestTiming timing) {
+        try {
+            report.append(timing);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't write merged timings", e);
+        }
+    }
+
+    /**
+     * Method that copies files of directory (files with the same names are replaced)
+     *
+     * @param source directory to copy from (it is skipped if it doesn't exist)
+     * @param target directory to copy to
+     * @throws IOException if files can't be copied
+     */
+    private static void copyFiles(Path source, Path target) throws IOException {
+        if (!Files.isDirectory(source)) {
+            return;
+        }
+
+        try (Stream<Path> files = Files.list(source)) {
+            for (Path file : files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                Files.copy(file, target.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+}
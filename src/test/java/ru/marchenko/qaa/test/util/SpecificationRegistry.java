@@ -0,0 +1,33 @@
+package ru.marchenko.qaa.test.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Registry that builds request or response specifications on first use and caches them by name.
+ * Specifications which are not used by the run (for example, when one test is started from IDE) are never built.
+ * Registry is safe for parallel tests: every specification is built once
+ *
+ * @param <T> type of specifications
+ */
+public class SpecificationRegistry<T> {
+
+    /**
+     * Built specifications by names
+     */
+    private final ConcurrentMap<String, T> specifications = new ConcurrentHashMap<>();
+
+    /**
+     * Method that returns specification and builds it if it is used for the first time
+     *
+     * @param name    unique name of specification
+     * @param factory factory which builds specification
+     * @return specification
+     */
+    public T get(String name, Supplier<? extends T> factory) {
+        T specification = specifications.get(name);
+
+        return specification != null ? specification : specifications.computeIfAbsent(name, key -> factory.get());
+    }
+}
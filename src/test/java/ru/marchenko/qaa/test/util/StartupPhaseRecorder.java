@@ -0,0 +1,75 @@
+package ru.marchenko.qaa.test.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Class that collects durations of start-up phases of JVM before the first test (like warm-up),
+ * so they are reported apart from tests
+ */
+public final class StartupPhaseRecorder {
+
+    /**
+     * Name of CSV file with start-up phases of JVM
+     */
+    public final static String STARTUP_FILE_NAME = "startup.csv";
+
+    /**
+     * Header of CSV file with start-up phases of JVM
+     */
+    private final static String CSV_HEADER = "phase,durationMillis";
+
+    /**
+     * Durations of start-up phases in milliseconds in order of recording
+     */
+    private final static Map<String, Double> STARTUP_PHASES = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    private StartupPhaseRecorder() {
+    }
+
+    /**
+     * Method that adds duration of start-up phase
+     *
+     * @param phase          name of phase
+     * @param durationMillis duration in milliseconds
+     */
+    public static void record(String phase, double durationMillis) {
+        STARTUP_PHASES.put(phase, durationMillis);
+    }
+
+    /**
+     * Method that writes durations of start-up phases (file is not written if no phase was recorded)
+     *
+     * @param file CSV file
+     * @throws IOException if file can't be written
+     */
+    public static void write(Path file) throws IOException {
+        synchronized (STARTUP_PHASES) {
+            if (STARTUP_PHASES.isEmpty()) {
+                return;
+            }
+
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                writer.write(CSV_HEADER);
+                writer.newLine();
+
+                for (Map.Entry<String, Double> startupPhase : STARTUP_PHASES.entrySet()) {
+                    writer.write(String.format(
+                            Locale.ROOT,
+                            "%s,%.3f",
+                            startupPhase.getKey(),
+                            startupPhase.getValue()
+                    ));
+                    writer.newLine();
+                }
+            }
+        }
+    }
+}
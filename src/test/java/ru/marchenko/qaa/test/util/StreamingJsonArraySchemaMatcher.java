@@ -0,0 +1,57 @@
+package ru.marchenko.qaa.test.util;
+
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+
+import java.io.StringReader;
+
+/**
+ * Matcher that validates JSON array string against schema of its items
+ * without building tree of the whole array
+ * (if another matcher of the specification has already parsed it into {@link JsonDocument}, the tree is validated)
+ */
+public class StreamingJsonArraySchemaMatcher extends TypeSafeMatcher<String> {
+
+    /**
+     * Path to JSON schema in classpath (for description)
+     */
+    private final String pathToSchema;
+
+    /**
+     * Validator of array items
+     */
+    private final StreamingJsonArrayValidator validator;
+
+    public StreamingJsonArraySchemaMatcher(String pathToSchema, StreamingJsonArrayValidator validator) {
+        this.pathToSchema = pathToSchema;
+        this.validator = validator;
+    }
+
+    @Override
+    protected boolean matchesSafely(String json) {
+        return validate(json).isValid();
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("The content to be JSON array which items match the JSON schema ")
+                .appendValue(pathToSchema);
+    }
+
+    @Override
+    protected void describeMismatchSafely(String json, Description mismatchDescription) {
+        mismatchDescription.appendText(validate(json).toString());
+    }
+
+    /**
+     * Method that validates parsed document of string if there is one, otherwise validates stream of string
+     *
+     * @param json JSON string
+     * @return result of validation
+     */
+    private StreamingJsonArrayValidator.Result validate(String json) {
+        return JsonDocument.findParsed(json)
+                .map(validator::validate)
+                .orElseGet(() -> validator.validate(new StringReader(json)));
+    }
+}
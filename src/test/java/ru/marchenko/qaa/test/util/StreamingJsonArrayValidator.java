@@ -0,0 +1,186 @@
+package ru.marchenko.qaa.test.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jackson.JacksonUtils;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+
+/**
+ * Class that validates JSON array against schema of its items element by element.
+ * Array is read with token stream parser, so only one element is kept in memory at a time
+ */
+public class StreamingJsonArrayValidator {
+
+    /**
+     * Mapper that creates parsers and reads elements as trees (in the same way as json-schema-validator does)
+     */
+    private final static ObjectMapper OBJECT_MAPPER = JacksonUtils.newMapper();
+
+    /**
+     * Compiled schema of array items
+     */
+    private final JsonSchema itemSchema;
+
+    public StreamingJsonArrayValidator(JsonSchema itemSchema) {
+        this.itemSchema = itemSchema;
+    }
+
+    /**
+     * Method that validates JSON array from stream
+     *
+     * @param inputStream stream with JSON array (it is not closed)
+     * @return result of validation
+     */
+    public Result validate(InputStream inputStream) {
+        try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(inputStream)) {
+            return validate(parser);
+        } catch (IOException e) {
+            return Result.invalid(-1, "content is not valid JSON: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Method that validates JSON array from reader
+     *
+     * @param reader reader with JSON array (it is not closed)
+     * @return result of validation
+     */
+    public Result validate(Reader reader) {
+        try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(reader)) {
+            return validate(parser);
+        } catch (IOException e) {
+            return Result.invalid(-1, "content is not valid JSON: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Method that validates JSON array which is already parsed (item by item, like the streamed one)
+     *
+     * @param document shared JSON document
+     * @return result of validation
+     */
+    public Result validate(JsonDocument document) {
+        if (!document.isValid()) {
+            return Result.invalid(-1, document.getError());
+        }
+
+        if (!document.getRoot().isArray()) {
+            return Result.invalid(-1, "content is not JSON array");
+        }
+
+        long index = 0;
+
+        for (JsonNode item : document.getRoot()) {
+            ProcessingReport report = itemSchema.validateUnchecked(item);
+
+            if (!report.isSuccess()) {
+                return Result.invalid(index, report.toString());
+            }
+
+            index++;
+        }
+
+        return Result.valid(index);
+    }
+
+    /**
+     * Method that validates JSON array token by token
+     *
+     * @param parser parser of JSON array
+     * @return result of validation
+     * @throws IOException if content is not valid JSON
+     */
+    private Result validate(JsonParser parser) throws IOException {
+        parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            return Result.invalid(-1, "content is not JSON array");
+        }
+
+        long index = 0;
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            JsonNode item = parser.readValueAsTree();
+            ProcessingReport report = itemSchema.validateUnchecked(item);
+
+            if (!report.isSuccess()) {
+                return Result.invalid(index, report.toString());
+            }
+
+            index++;
+        }
+
+        if (parser.nextToken() != null) {
+            return Result.invalid(index, "unexpected content after JSON array");
+        }
+
+        return Result.valid(index);
+    }
+
+    /**
+     * Class that represents result of validation
+     */
+    public static final class Result {
+
+        /**
+         * Whether all items are valid
+         */
+        private final boolean valid;
+
+        /**
+         * Count of valid items or index of the first invalid item
+         */
+        private final long index;
+
+        /**
+         * Description of the first violation
+         */
+        private final String message;
+
+        private Result(boolean valid, long index, String message) {
+            this.valid = valid;
+            this.index = index;
+            this.message = message;
+        }
+
+        private static Result valid(long itemsCount) {
+            return new Result(true, itemsCount, null);
+        }
+
+        private static Result invalid(long index, String message) {
+            return new Result(false, index, message);
+        }
+
+        public boolean isValid() {
+            return valid;
+        }
+
+        /**
+         * Method that returns count of validated items
+         * (or index of the first invalid item, -1 if array itself is invalid)
+         *
+         * @return count of items or index of invalid item
+         */
+        public long getIndex() {
+            return index;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return valid
+                    ? "all " + index + " items are valid"
+                    : index < 0 ? message : "item " + index + " is invalid: " + message;
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package ru.marchenko.qaa.test.util;
 
+import io.restassured.response.Response;
 import io.restassured.response.ValidatableResponse;
 import io.restassured.specification.RequestSpecification;
 import io.restassured.specification.ResponseSpecification;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static io.restassured.RestAssured.given;
 
@@ -31,7 +34,6 @@ public class TestAPIBuilder {
                 .when()
                 .get()
                 .then()
-                .log().body()
                 .spec(responseSpecification);
     }
 
@@ -55,13 +57,15 @@ public class TestAPIBuilder {
                 .when()
                 .get()
                 .then()
-                .log().body()
                 .spec(responseSpecification);
     }
 
 
     /**
-     * Method that builds tests for GET requests with params
+     * Method that builds tests for GET requests with params.
+     * In oracle mode response is also compared with posts computed from the whole collection
+     * (the filtered request is still sent, so the API is checked, and the collection is fetched once per run).
+     * Comparison is skipped if diagnostics are disabled (see {@link RequestDiagnostics})
      *
      * @param requestSpecification  specification for request
      * @param responseSpecification specification for response
@@ -73,13 +77,54 @@ public class TestAPIBuilder {
             ResponseSpecification responseSpecification,
             Map<String, Object> params
     ) {
-        return given()
+        ValidatableResponse validatableResponse = given()
                 .spec(requestSpecification)
                 .params(params)
                 .when()
                 .get()
                 .then()
-                .log().body()
                 .spec(responseSpecification);
+
+        if (TestProperties.isOracleEnabled() && RequestDiagnostics.isEnabled()) {
+            PostsOracle oracle = PostsOracle.forCollection(requestSpecification);
+            validatableResponse.body(new JsonEqualsMatcher(oracle.expected(params)));
+        }
+
+        return validatableResponse;
+    }
+
+    /**
+     * Method that builds tests for GET requests of collection page by page.
+     * The next page is requested on the calling thread while the previous one is checked in the background,
+     * so at most two pages are held in memory however large the collection is.
+     * Oracle mode is not applied, because it needs the whole collection
+     *
+     * @param requestSpecification  specification for request
+     * @param responseSpecification specification for every page
+     * @param params                params for request (filters without pagination params)
+     * @param style                 style of pagination params
+     * @param pageSize              count of items per page
+     * @return count of checked pages
+     */
+    public int buildTestWithPages(
+            RequestSpecification requestSpecification,
+            ResponseSpecification responseSpecification,
+            Map<String, Object> params,
+            PageIterator.Style style,
+            int pageSize
+    ) {
+        PageIterator pages = new PageIterator(requestSpecification, params, style, pageSize);
+        CompletableFuture<ValidatableResponse> previousPage = CompletableFuture.completedFuture(null);
+        int pageCount = 0;
+
+        while (pages.hasNext()) {
+            Response page = pages.next();
+            AsyncTestAPIBuilder.awaitAll(List.of(previousPage));
+            previousPage = CompletableFuture.supplyAsync(() -> page.then().spec(responseSpecification));
+            pageCount++;
+        }
+
+        AsyncTestAPIBuilder.awaitAll(List.of(previousPage));
+        return pageCount;
     }
 }
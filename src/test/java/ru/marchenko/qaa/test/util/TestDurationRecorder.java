@@ -0,0 +1,117 @@
+package ru.marchenko.qaa.test.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Class that collects durations of tests of the run, which are history for {@link ShardFilter}
+ * (one value per test, so it doesn't grow with count of requests)
+ */
+public final class TestDurationRecorder {
+
+    /**
+     * Name of CSV file with durations of tests
+     */
+    public final static String TEST_DURATIONS_FILE_NAME = "test-durations.csv";
+
+    /**
+     * Header of CSV file with durations of tests
+     */
+    private final static String CSV_HEADER = "test,durationMillis";
+
+    /**
+     * Durations of tests of the run in milliseconds (durations of invocations of the same test are summed)
+     */
+    private final static ConcurrentMap<String, Double> TEST_DURATIONS = new ConcurrentHashMap<>();
+
+    private TestDurationRecorder() {
+    }
+
+    /**
+     * Method that adds duration of test (or of its invocation) to the run
+     *
+     * @param test           name of test
+     * @param durationMillis duration in milliseconds
+     */
+    public static void record(String test, double durationMillis) {
+        TEST_DURATIONS.merge(test, durationMillis, Double::sum);
+    }
+
+    /**
+     * Method that returns durations of tests of the run
+     *
+     * @return durations in milliseconds by names of tests
+     */
+    public static Map<String, Double> getTestDurations() {
+        return new TreeMap<>(TEST_DURATIONS);
+    }
+
+    /**
+     * Method that writes durations of tests
+     *
+     * @param file          CSV file
+     * @param testDurations durations in milliseconds by names of tests
+     * @throws IOException if file can't be written
+     */
+    public static void write(Path file, Map<String, Double> testDurations) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(CSV_HEADER);
+            writer.newLine();
+
+            for (Map.Entry<String, Double> testDuration : new TreeMap<>(testDurations).entrySet()) {
+                writer.write(String.format(
+                        Locale.ROOT,
+                        "\"%s\",%.3f",
+                        testDuration.getKey().replace("\"", "\"\""),
+                        testDuration.getValue()
+                ));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Method that reads durations of tests from CSV file
+     *
+     * @param file CSV file
+     * @return durations in milliseconds by names of tests or empty map if there is no file
+     * @throws IOException if file can't be read
+     */
+    public static Map<String, Double> read(Path file) throws IOException {
+        Map<String, Double> testDurations = new TreeMap<>();
+
+        if (!Files.exists(file)) {
+            return testDurations;
+        }
+
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            int separator = line.lastIndexOf(',');
+
+            if (line.equals(CSV_HEADER) || separator < 0) {
+                continue;
+            }
+
+            String test = line.substring(0, separator);
+
+            if (test.length() > 1 && test.startsWith("\"") && test.endsWith("\"")) {
+                test = test.substring(1, test.length() - 1).replace("\"\"", "\"");
+            }
+
+            try {
+                testDurations.merge(test, Double.parseDouble(line.substring(separator + 1)), Double::sum);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid duration of test in " + file + ": " + line, e);
+            }
+        }
+
+        return testDurations;
+    }
+}
@@ -0,0 +1,99 @@
+package ru.marchenko.qaa.test.util;
+
+/**
+ * Class that reads settings of test runs from system properties
+ */
+public final class TestProperties {
+
+    /**
+     * Name of property that switches requests to the embedded stub server
+     */
+    public final static String STUB_ENABLED = "api.stub.enabled";
+
+    /**
+     * Name of property that enables checking of filtered responses against the fetched collection
+     */
+    public final static String ORACLE_ENABLED = "api.oracle.enabled";
+
+    private TestProperties() {
+    }
+
+    /**
+     * Method that checks whether requests should be sent to the embedded stub server
+     *
+     * @return true if stub server is enabled
+     */
+    public static boolean isStubEnabled() {
+        return getBoolean(STUB_ENABLED, false);
+    }
+
+    /**
+     * Method that checks whether responses of requests with query parameters
+     * should be compared with results computed from the whole collection
+     *
+     * @return true if oracle mode is enabled
+     */
+    public static boolean isOracleEnabled() {
+        return getBoolean(ORACLE_ENABLED, false);
+    }
+
+    /**
+     * Method that reads boolean property
+     *
+     * @param name         name of property
+     * @param defaultValue value if property is not set
+     * @return value of property
+     */
+    public static boolean getBoolean(String name, boolean defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+
+    /**
+     * Method that reads integer property
+     *
+     * @param name         name of property
+     * @param defaultValue value if property is not set
+     * @return value of property
+     */
+    public static int getInt(String name, int defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    /**
+     * Method that reads long property
+     *
+     * @param name         name of property
+     * @param defaultValue value if property is not set
+     * @return value of property
+     */
+    public static long getLong(String name, long defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : Long.parseLong(value.trim());
+    }
+
+    /**
+     * Method that reads double property
+     *
+     * @param name         name of property
+     * @param defaultValue value if property is not set
+     * @return value of property
+     */
+    public static double getDouble(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value.trim());
+    }
+
+    /**
+     * Method that reads string property
+     *
+     * @param name         name of property
+     * @param defaultValue value if property is not set
+     * @return value of property
+     */
+    public static String getString(String name, String defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+}
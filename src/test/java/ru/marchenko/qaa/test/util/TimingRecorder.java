@@ -0,0 +1,238 @@
+package ru.marchenko.qaa.test.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+
+/**
+ * Class that records timings of requests of the whole run.
+ * HTTP client marks stages of exchange in thread-local state (RestAssured sends requests in the calling thread),
+ * {@link RequestTimingFilter} turns them into {@link RequestTiming} when the response is returned.
+ * Timings are appended to {@link TimingReport} in "timing.results.directory" as they are recorded
+ * (they are not recorded if the property is not set), so they are not kept in memory
+ */
+public final class TimingRecorder {
+
+    /**
+     * Name of property with directory for timing summaries
+     */
+    public final static String RESULTS_DIRECTORY_PROPERTY = "timing.results.directory";
+
+    /**
+     * Name of test which runs in the current thread
+     */
+    private final static ThreadLocal<String> CURRENT_TEST = new ThreadLocal<>();
+
+    /**
+     * Stages of HTTP exchange which runs in the current thread
+     */
+    private final static ThreadLocal<Exchange> CURRENT_EXCHANGE = ThreadLocal.withInitial(Exchange::new);
+
+    /**
+     * Report of the run (null until the first timing is recorded)
+     */
+    private static TimingReport report;
+
+    private TimingRecorder() {
+    }
+
+    /**
+     * Method that sets name of test which runs in the current thread
+     *
+     * @param test name of test
+     */
+    public static void setCurrentTest(String test) {
+        CURRENT_TEST.set(test);
+    }
+
+    /**
+     * Method that clears name of test which runs in the current thread
+     */
+    public static void clearCurrentTest() {
+        CURRENT_TEST.remove();
+    }
+
+    /**
+     * Method that returns name of test which runs in the current thread
+     *
+     * @return name of test or null
+     */
+    public static String getCurrentTest() {
+        return CURRENT_TEST.get();
+    }
+
+    /**
+     * Method that marks sending of request in the current thread
+     *
+     * @param requestBytes size of request body
+     */
+    static void markRequestSent(long requestBytes) {
+        Exchange exchange = CURRENT_EXCHANGE.get();
+        exchange.sentAt = System.currentTimeMillis();
+        exchange.sentNanos = System.nanoTime();
+        exchange.headersNanos = -1;
+        exchange.bodyNanos = -1;
+        exchange.requestBytes = requestBytes;
+        exchange.responseBytes = -1;
+        exchange.decodedResponseBytes = -1;
+        exchange.contentEncoding = null;
+    }
+
+    /**
+     * Method that marks receiving of response headers in the current thread
+     */
+    static void markResponseHeadersReceived() {
+        CURRENT_EXCHANGE.get().headersNanos = System.nanoTime();
+    }
+
+    /**
+     * Method that marks receiving of the whole response body in the current thread
+     *
+     * @param responseBytes   size of response body on the wire
+     * @param contentEncoding content encoding of response body (null if it is not encoded)
+     */
+    static void markResponseBodyReceived(long responseBytes, String contentEncoding) {
+        Exchange exchange = CURRENT_EXCHANGE.get();
+        exchange.bodyNanos = System.nanoTime();
+        exchange.responseBytes = responseBytes;
+        exchange.contentEncoding = contentEncoding;
+    }
+
+    /**
+     * Method that marks decoding of response body in the current thread
+     *
+     * @param decodedResponseBytes size of decoded response body
+     */
+    static void markResponseBodyDecoded(long decodedResponseBytes) {
+        CURRENT_EXCHANGE.get().decodedResponseBytes = decodedResponseBytes;
+    }
+
+    /**
+     * Method that returns stages of the last exchange of the current thread and resets them
+     *
+     * @return copy of stages or null if no exchange was marked since the last call
+     */
+    static Exchange takeExchange() {
+        Exchange exchange = CURRENT_EXCHANGE.get();
+
+        if (exchange.sentNanos < 0) {
+            return null;
+        }
+
+        Exchange copy = exchange.copy();
+        exchange.sentNanos = -1;
+        return copy;
+    }
+
+    /**
+     * Method that adds timing of request to the report of the run
+     *
+     * @param timing timing of request
+     */
+    public static synchronized void record(RequestTiming timing) {
+        try {
+            TimingReport currentReport = getReport();
+
+            if (currentReport != null) {
+                currentReport.append(timing);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't write timing of request to report", e);
+        }
+    }
+
+    /**
+     * Method that completes report of the run (it is written even if no timing was recorded).
+     * The next recorded timing starts a new report
+     *
+     * @throws IOException if report can't be written
+     */
+    public static synchronized void closeReport() throws IOException {
+        TimingReport currentReport = getReport();
+        report = null;
+
+        if (currentReport != null) {
+            currentReport.close();
+        }
+    }
+
+    /**
+     * Method that returns report of the run and opens it if needed
+     *
+     * @return report or null if directory for timing summaries is not set
+     * @throws IOException if report can't be opened
+     */
+    private static TimingReport getReport() throws IOException {
+        String resultsDirectory = TestProperties.getString(RESULTS_DIRECTORY_PROPERTY, null);
+
+        if (report == null && resultsDirectory != null) {
+            report = TimingReport.open(Paths.get(resultsDirectory));
+        }
+
+        return report;
+    }
+
+    /**
+     * Stages of HTTP exchange (times in nanoseconds, -1 if stage wasn't reached)
+     */
+    static class Exchange {
+
+        /**
+         * Time of sending of request (epoch milliseconds)
+         */
+        long sentAt;
+
+        /**
+         * Time of sending of request
+         */
+        long sentNanos = -1;
+
+        /**
+         * Time of receiving of response headers
+         */
+        long headersNanos = -1;
+
+        /**
+         * Time of receiving of the whole response body
+         */
+        long bodyNanos = -1;
+
+        /**
+         * Size of request body
+         */
+        long requestBytes;
+
+        /**
+         * Size of response body on the wire
+         */
+        long responseBytes = -1;
+
+        /**
+         * Size of decoded response body
+         */
+        long decodedResponseBytes = -1;
+
+        /**
+         * Content encoding of response body (null if it is not encoded)
+         */
+        String contentEncoding;
+
+        /**
+         * Method that copies stages
+         *
+         * @return copy
+         */
+        Exchange copy() {
+            Exchange copy = new Exchange();
+            copy.sentAt = sentAt;
+            copy.sentNanos = sentNanos;
+            copy.headersNanos = headersNanos;
+            copy.bodyNanos = bodyNanos;
+            copy.requestBytes = requestBytes;
+            copy.responseBytes = responseBytes;
+            copy.decodedResponseBytes = decodedResponseBytes;
+            copy.contentEncoding = contentEncoding;
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package ru.marchenko.qaa.test.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * Report files of request timings of a run: JSON and CSV summaries of all requests and compression of responses
+ * by endpoints (see {@link CompressionSummary}).
+ * Timings are appended to the files as they are recorded and are not kept in memory,
+ * so the report of a long run (like a load test) takes disk space only.
+ * Appending is thread-safe, files are completed when the report is closed
+ */
+public final class TimingReport implements Closeable {
+
+    /**
+     * Name of JSON summary file
+     */
+    private final static String JSON_SUMMARY_FILE_NAME = "timings.json";
+
+    /**
+     * Name of CSV summary file
+     */
+    private final static String CSV_SUMMARY_FILE_NAME = "timings.csv";
+
+    /**
+     * Name of CSV file with compression of responses by endpoints
+     */
+    private final static String COMPRESSION_SUMMARY_FILE_NAME = "compression.csv";
+
+    /**
+     * Mapper that writes and reads timings
+     */
+    private final static ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * Directory of the report
+     */
+    private final Path directory;
+
+    /**
+     * Writer of JSON array of timings
+     */
+    private final JsonGenerator jsonGenerator;
+
+    /**
+     * Writer of CSV rows of timings
+     */
+    private final BufferedWriter csvWriter;
+
+    /**
+     * Sizes of responses by endpoints
+     */
+    private final CompressionSummary compressionSummary = new CompressionSummary();
+
+    /**
+     * Constructor of report
+     *
+     * @param directory     directory of the report
+     * @param jsonGenerator writer of JSON array of timings
+     * @param csvWriter     writer of CSV rows of timings
+     */
+    private TimingReport(Path directory, JsonGenerator jsonGenerator, BufferedWriter csvWriter) {
+        this.directory = directory;
+        this.jsonGenerator = jsonGenerator;
+        this.csvWriter = csvWriter;
+    }
+
+    /**
+     * Method that creates report files (existing ones are replaced)
+     *
+     * @param directory directory of the report (created if needed)
+     * @return opened report
+     * @throws IOException if files can't be created
+     */
+    public static TimingReport open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+
+        BufferedWriter csvWriter = Files.newBufferedWriter(
+                directory.resolve(CSV_SUMMARY_FILE_NAME),
+                StandardCharsets.UTF_8
+        );
+        csvWriter.write(RequestTiming.CSV_HEADER);
+        csvWriter.newLine();
+
+        JsonGenerator jsonGenerator = OBJECT_MAPPER.getFactory().createGenerator(
+                Files.newBufferedWriter(directory.resolve(JSON_SUMMARY_FILE_NAME), StandardCharsets.UTF_8)
+        );
+        jsonGenerator.useDefaultPrettyPrinter();
+        jsonGenerator.writeStartArray();
+
+        return new TimingReport(directory, jsonGenerator, csvWriter);
+    }
+
+    /**
+     * Method that reads timings of requests from JSON summary one by one
+     *
+     * @param directory directory of the report (it is skipped if there is no JSON summary)
+     * @param consumer  consumer of timings in order of the summary
+     * @throws IOException if summary can't be read
+     */
+    public static void readTimings(Path directory, Consumer<RequestTiming> consumer) throws IOException {
+        Path file = directory.resolve(JSON_SUMMARY_FILE_NAME);
+
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        try (MappingIterator<RequestTiming> timings = OBJECT_MAPPER.readerFor(RequestTiming.class)
+                .readValues(file.toFile())) {
+            timings.forEachRemaining(consumer);
+        }
+    }
+
+    /**
+     * Method that appends timing of request to the report
+     *
+     * @param timing timing of request
+     * @throws IOException if timing can't be written
+     */
+    public synchronized void append(RequestTiming timing) throws IOException {
+        jsonGenerator.writeObject(timing);
+        csvWriter.write(timing.toCsvRow());
+        csvWriter.newLine();
+        compressionSummary.add(timing);
+    }
+
+    /**
+     * Method that completes JSON summary and writes compression of responses by endpoints
+     *
+     * @throws IOException if files can't be written
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try (JsonGenerator generator = jsonGenerator) {
+            generator.writeEndArray();
+        } finally {
+            csvWriter.close();
+        }
+
+        compressionSummary.write(directory.resolve(COMPRESSION_SUMMARY_FILE_NAME));
+    }
+}
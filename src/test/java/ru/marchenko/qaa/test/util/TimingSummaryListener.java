@@ -0,0 +1,86 @@
+package ru.marchenko.qaa.test.util;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Listener that names requests by tests which send them, measures durations of tests
+ * (they are history for {@link ShardFilter}) and completes report of timings, durations of tests
+ * and start-up phases when the test plan is finished.
+ * It is registered in META-INF/services, summary is written only if "timing.results.directory" property is set
+ */
+public class TimingSummaryListener implements TestExecutionListener {
+
+    /**
+     * Start times of running tests (nanoseconds) by unique ids of tests
+     */
+    private final ConcurrentMap<String, Long> startTimes = new ConcurrentHashMap<>();
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        if (testIdentifier.isTest()) {
+            startTimes.put(testIdentifier.getUniqueId(), System.nanoTime());
+            TimingRecorder.setCurrentTest(getTestName(testIdentifier));
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        if (testIdentifier.isTest()) {
+            TimingRecorder.clearCurrentTest();
+            Long startTime = startTimes.remove(testIdentifier.getUniqueId());
+
+            if (startTime != null) {
+                TestDurationRecorder.record(
+                        getTestName(testIdentifier),
+                        (System.nanoTime() - startTime) / 1_000_000.0
+                );
+            }
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        String resultsDirectory = TestProperties.getString(TimingRecorder.RESULTS_DIRECTORY_PROPERTY, null);
+
+        if (resultsDirectory == null) {
+            return;
+        }
+
+        try {
+            Path directory = Paths.get(resultsDirectory);
+            TimingRecorder.closeReport();
+            TestDurationRecorder.write(
+                    directory.resolve(TestDurationRecorder.TEST_DURATIONS_FILE_NAME),
+                    TestDurationRecorder.getTestDurations()
+            );
+            StartupPhaseRecorder.write(directory.resolve(StartupPhaseRecorder.STARTUP_FILE_NAME));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't write timing summary to " + resultsDirectory, e);
+        }
+    }
+
+    /**
+     * Method that returns name of test
+     *
+     * @param testIdentifier identifier of test
+     * @return class and method name (or display name if test is not a method)
+     */
+    private static String getTestName(TestIdentifier testIdentifier) {
+        return testIdentifier.getSource()
+                .filter(MethodSource.class::isInstance)
+                .map(MethodSource.class::cast)
+                .map(source -> source.getClassName() + "#" + source.getMethodName())
+                .orElse(testIdentifier.getDisplayName());
+    }
+}
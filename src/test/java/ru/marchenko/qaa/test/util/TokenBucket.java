@@ -0,0 +1,133 @@
+package ru.marchenko.qaa.test.util;
+
+/**
+ * Token bucket that limits rate of requests.
+ * The rate adapts to the server: it is halved when the server throttles requests
+ * and grows back by small steps after successful requests, but never exceeds the configured rate,
+ * so requests are sent at the highest rate the server tolerates
+ */
+public class TokenBucket {
+
+    /**
+     * Part of the configured rate which the rate grows by after successful request
+     */
+    private final static double INCREASE_FRACTION = 0.02;
+
+    /**
+     * Part of the configured rate which the rate doesn't go below
+     */
+    private final static double MIN_RATE_FRACTION = 0.05;
+
+    /**
+     * Count of nanoseconds in second
+     */
+    private final static double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    /**
+     * Configured (max) count of requests per second
+     */
+    private final double maxRate;
+
+    /**
+     * Max count of tokens
+     */
+    private final int capacity;
+
+    /**
+     * Current count of requests per second
+     */
+    private double rate;
+
+    /**
+     * Count of tokens (negative if tokens are reserved by waiting requests)
+     */
+    private double tokens;
+
+    /**
+     * Time of the last refill (in nanoseconds)
+     */
+    private long refilledAt = System.nanoTime();
+
+    /**
+     * Constructor of bucket
+     *
+     * @param maxRate  max count of requests per second
+     * @param capacity max count of requests sent at once
+     */
+    public TokenBucket(double maxRate, int capacity) {
+        if (maxRate <= 0 || capacity < 1) {
+            throw new IllegalArgumentException("Rate and capacity of bucket should be positive");
+        }
+
+        this.maxRate = maxRate;
+        this.capacity = capacity;
+        this.rate = maxRate;
+        this.tokens = capacity;
+    }
+
+    /**
+     * Method that takes token, waiting for it if the bucket is empty
+     *
+     * @throws IllegalStateException if the thread is interrupted while waiting
+     */
+    public void acquire() {
+        long waitNanos = reserve();
+
+        if (waitNanos > 0) {
+            try {
+                Thread.sleep(waitNanos / 1_000_000, (int) (waitNanos % 1_000_000));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Waiting for rate limit is interrupted", e);
+            }
+        }
+    }
+
+    /**
+     * Method that is called when the server accepted request (rate grows additively)
+     */
+    public synchronized void onSuccess() {
+        rate = Math.min(maxRate, rate + maxRate * INCREASE_FRACTION);
+    }
+
+    /**
+     * Method that is called when the server throttled request (rate decreases multiplicatively).
+     * Saved tokens are dropped, so the next requests are spread by the new rate
+     */
+    public synchronized void onThrottled() {
+        refill(System.nanoTime());
+        rate = Math.max(maxRate * MIN_RATE_FRACTION, rate / 2);
+        tokens = Math.min(tokens, 0);
+    }
+
+    /**
+     * Getter for current count of requests per second
+     *
+     * @return rate
+     */
+    public synchronized double getRate() {
+        return rate;
+    }
+
+    /**
+     * Method that reserves token without waiting for it (for requests which are sent asynchronously)
+     *
+     * @return time of waiting until the reserved token is available (in nanoseconds)
+     */
+    synchronized long reserve() {
+        refill(System.nanoTime());
+        tokens--;
+
+        return tokens >= 0 ? 0 : (long) (-tokens / rate * NANOS_PER_SECOND);
+    }
+
+    /**
+     * Method that adds tokens accumulated since the last refill
+     *
+     * @param now current time (in nanoseconds)
+     */
+    private void refill(long now) {
+        tokens = Math.min(capacity, tokens + (now - refilledAt) / NANOS_PER_SECOND * rate);
+        refilledAt = now;
+    }
+}
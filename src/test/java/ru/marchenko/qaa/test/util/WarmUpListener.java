@@ -0,0 +1,131 @@
+package ru.marchenko.qaa.test.util;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.ContentType;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+import ru.marchenko.qaa.test.stub.PostsStubServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.notNullValue;
+import static ru.marchenko.qaa.test.util.JsonSchemaRegistry.matchesJsonSchemaInClasspath;
+import static ru.marchenko.qaa.test.util.JsonSchemaRegistry.matchesJsonSchemaInClasspathStreaming;
+
+/**
+ * Listener that warms up RestAssured, Groovy, GPath, Hamcrest and JSON schema validator before the first test,
+ * so the first requests of tests are not slowed down by loading of classes (and their latencies are not skewed).
+ * Bundled collection of posts is validated without network, then (if the stub server is used)
+ * one request is sent to the stub server without filters, so it is not recorded in reports.
+ * Start-up of JVM before tests and warm-up are measured and reported apart from tests
+ * (see {@link StartupPhaseRecorder}), times of warm-up requests are not recorded by latency budgets.
+ * It is registered in META-INF/services,
+ * warm-up is disabled by "api.warmup.enabled" property
+ */
+public class WarmUpListener implements TestExecutionListener {
+
+    /**
+     * Name of property that enables warm-up
+     */
+    public final static String ENABLED_PROPERTY = "api.warmup.enabled";
+
+    /**
+     * Path to bundled collection of posts in classpath
+     */
+    private final static String PATH_TO_POSTS = "posts.json";
+
+    /**
+     * Path to JSON schema of many posts in classpath
+     */
+    private final static String PATH_TO_SCHEMA_FOR_MANY_POSTS = "JSONSchemaForManyPosts.json";
+
+    /**
+     * Path of request which is sent to the stub server
+     */
+    private final static String WARM_UP_REQUEST_PATH = "/posts/1";
+
+    /**
+     * Status code of successful response
+     */
+    private final static int STATUS_OK = 200;
+
+    /**
+     * Flag of started warm-up (JVM is warmed up once even if a launcher executes several test plans)
+     */
+    private final static AtomicBoolean STARTED = new AtomicBoolean();
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        if (!STARTED.compareAndSet(false, true)) {
+            return;
+        }
+
+        long jvmStartupMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        StartupPhaseRecorder.record("jvm", jvmStartupMillis);
+
+        if (!TestProperties.getBoolean(ENABLED_PROPERTY, true)) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        LatencyBudget.setRecording(false);
+
+        try {
+            warmUp();
+        } finally {
+            LatencyBudget.setRecording(true);
+        }
+
+        double warmUpMillis = (System.nanoTime() - start) / 1_000_000.0;
+        StartupPhaseRecorder.record("warm-up", warmUpMillis);
+    }
+
+    /**
+     * Method that validates bundled collection of posts like tests do and sends request to the stub server
+     */
+    private static void warmUp() {
+        new ResponseBuilder()
+                .setStatusCode(STATUS_OK)
+                .setContentType(ContentType.JSON)
+                .setBody(readPosts())
+                .build()
+                .then()
+                .statusCode(STATUS_OK)
+                .body(matchesJsonSchemaInClasspath(PATH_TO_SCHEMA_FOR_MANY_POSTS))
+                .body(matchesJsonSchemaInClasspathStreaming(PATH_TO_SCHEMA_FOR_MANY_POSTS))
+                .body("userId", everyItem(notNullValue()));
+
+        if (TestProperties.isStubEnabled() && !CassetteFilter.isReplaying()) {
+            given()
+                    .baseUri(PostsStubServer.getInstance().getBaseUri())
+                    .when()
+                    .get(WARM_UP_REQUEST_PATH)
+                    .then()
+                    .statusCode(STATUS_OK);
+        }
+    }
+
+    /**
+     * Method that reads bundled collection of posts
+     *
+     * @return JSON array of posts
+     */
+    private static String readPosts() {
+        try (InputStream inputStream = WarmUpListener.class.getClassLoader().getResourceAsStream(PATH_TO_POSTS)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("There is no " + PATH_TO_POSTS + " in classpath");
+            }
+
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can't read " + PATH_TO_POSTS, e);
+        }
+    }
+}